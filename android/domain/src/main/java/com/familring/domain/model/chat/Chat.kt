@@ -13,4 +13,5 @@ data class Chat(
     val resultOfVote: Map<String, Int> = emptyMap(),
     val unReadMembers: Int,
     val voteEnd: Boolean,
+    val seq: Long = 0L, // 채팅방 내 메시지 순번 (읽음 상태 변경분 적용에 사용)
 )
@@ -0,0 +1,14 @@
+package com.familring.domain.model.chat
+
+// /room/{roomId}/readStatus 로 받는 읽음 상태 변경분
+data class ReadStatus(
+    val roomId: Long,
+    val reads: List<Read> = emptyList(),
+) {
+    // fromSeq < seq <= toSeq 인 채팅을 userId가 새로 읽음
+    data class Read(
+        val userId: Long,
+        val fromSeq: Long,
+        val toSeq: Long,
+    )
+}
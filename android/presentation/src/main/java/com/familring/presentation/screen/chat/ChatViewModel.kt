@@ -10,21 +10,27 @@ import androidx.paging.Pager
 import androidx.paging.PagingConfig
 import androidx.paging.PagingData
 import androidx.paging.cachedIn
+import androidx.paging.filter
+import androidx.paging.insertHeaderItem
+import androidx.paging.map
 import com.familring.domain.datastore.AuthDataStore
 import com.familring.domain.datastore.TokenDataStore
 import com.familring.domain.datastore.TutorialDataStore
 import com.familring.domain.model.ApiResponse
 import com.familring.domain.model.chat.Chat
 import com.familring.domain.model.chat.FileUploadRequest
+import com.familring.domain.model.chat.ReadStatus
 import com.familring.domain.model.chat.SendMessage
 import com.familring.domain.model.chat.VoteResponse
 import com.familring.domain.repository.FamilyRepository
 import com.familring.presentation.BuildConfig
 import com.familring.presentation.R
 import com.familring.presentation.screen.gallery.TutorialUiState
+import com.google.gson.Gson
 import com.squareup.moshi.Moshi
 import com.squareup.moshi.kotlin.reflect.KotlinJsonAdapterFactory
 import dagger.hilt.android.lifecycle.HiltViewModel
+import kotlinx.coroutines.Job
 import kotlinx.coroutines.async
 import kotlinx.coroutines.delay
 import kotlinx.coroutines.flow.Flow
@@ -33,7 +39,7 @@ import kotlinx.coroutines.flow.MutableStateFlow
 import kotlinx.coroutines.flow.asSharedFlow
 import kotlinx.coroutines.flow.asStateFlow
 import kotlinx.coroutines.flow.collectLatest
-import kotlinx.coroutines.flow.first
+import kotlinx.coroutines.flow.combine
 import kotlinx.coroutines.flow.update
 import kotlinx.coroutines.launch
 import okhttp3.OkHttpClient
@@ -49,6 +55,7 @@ import timber.log.Timber
 import java.io.File
 import java.time.Duration
 import java.time.LocalDateTime
+import java.util.concurrent.ConcurrentHashMap
 import javax.inject.Inject
 
 @HiltViewModel
@@ -59,6 +66,7 @@ class ChatViewModel
         private val authDataStore: AuthDataStore,
         private val tokenDataStore: TokenDataStore,
         private val tutorialDataStore: TutorialDataStore,
+        private val gson: Gson,
     ) : ViewModel() {
         override fun onCleared() {
             super.onCleared()
@@ -78,9 +86,18 @@ class ChatViewModel
                 .Builder()
                 .add(KotlinJsonAdapterFactory())
                 .build()
+        private val readStatusAdapter = moshi.adapter(ReadStatus::class.java)
 
         private val _chatPagingData = MutableStateFlow<PagingData<Chat>>(PagingData.empty())
         val chatPagingData = _chatPagingData.asStateFlow()
+        private var chatListJob: Job? = null
+
+        // 불러온 채팅 (chatId -> 서버에서 받은 채팅), 읽음 상태 변경분으로 줄어든 안 읽은 사람 수 (chatId -> 감소 수)
+        private val loadedChats = ConcurrentHashMap<String, Chat>()
+        private val readDecrements = MutableStateFlow<Map<String, Int>>(emptyMap())
+
+        // 목록을 불러온 뒤 구독으로 받은 새 채팅 (순번 내림차순) - 목록 맨 앞에 붙여서 표시
+        private val incomingChats = MutableStateFlow<List<Chat>>(emptyList())
 
         // 재생 중인 파일
         private var currentPlayer: VoicePlayer? by mutableStateOf(null)
@@ -209,22 +226,63 @@ class ChatViewModel
         }
 
         private fun getChatList() {
-            viewModelScope.launch {
-                val pagingData = enterRoom().first()
-                _chatPagingData.value = pagingData
+            // 새로 불러온 채팅에는 이미 읽음 상태와 새 채팅이 반영되어 있으므로 이전 변경분은 버림
+            chatListJob?.cancel()
+            loadedChats.clear()
+            readDecrements.value = emptyMap()
+            incomingChats.value = emptyList()
+
+            chatListJob =
+                viewModelScope.launch {
+                    combine(enterRoom(), incomingChats, readDecrements) { pagingData, incoming, decrements ->
+                        // 새로 불러온 페이지에 이미 있는 채팅은 한 번만 표시
+                        val incomingIds = incoming.map { it.chatId }.toSet()
+                        incoming
+                            .asReversed()
+                            .fold(pagingData.filter { it.chatId !in incomingIds }) { chats, chat ->
+                                chats.insertHeaderItem(item = chat)
+                            }.map { chat ->
+                                loadedChats[chat.chatId] = chat
+                                val decrement = decrements[chat.chatId] ?: 0
+                                if (decrement == 0) {
+                                    chat
+                                } else {
+                                    chat.copy(unReadMembers = maxOf(0, chat.unReadMembers - decrement))
+                                }
+                            }
+                    }.collect { pagingData ->
+                        _chatPagingData.value = pagingData
 
-                if (_state.value is ChatUiState.Loading) {
-                    delay(1000)
-                    _state.value = ChatUiState.Success
+                        if (_state.value is ChatUiState.Loading) {
+                            delay(1000)
+                            _state.value = ChatUiState.Success
+                        }
+                    }
                 }
-            }
         }
 
-        // 메시지 구독
+        // 메시지 구독 - 받은 채팅을 목록 맨 앞에 추가 (REST 응답과 같은 Gson으로 변환)
         private fun subscribeMessages() {
             viewModelScope.launch {
                 stompSession
                     .subscribe(StompSubscribeHeaders(destination = "$SUBSCRIBE_URL$familyId"))
+                    .collect { response ->
+                        try {
+                            gson
+                                .fromJson(response.bodyAsText, Chat::class.java)
+                                ?.takeIf { !it.chatId.isNullOrEmpty() } // 채팅이 아닌 알림
+                                ?.let { addIncomingChat(it) }
+                        } catch (e: Exception) {
+                            Timber.e(e, "새 채팅 파싱 실패")
+                        }
+                    }
+            }
+        }
+
+        // 같은 채팅을 다시 받으면 교체, 순번 내림차순 유지
+        private fun addIncomingChat(chat: Chat) {
+            incomingChats.update { chats ->
+                (chats.filterNot { it.chatId == chat.chatId } + chat).sortedByDescending { it.seq }
             }
         }
 
@@ -233,12 +291,29 @@ class ChatViewModel
             viewModelScope.launch {
                 stompSession
                     .subscribe(StompSubscribeHeaders(destination = "$SUBSCRIBE_URL$familyId$READ_STATUS_URL"))
-                    .collect {
-                        getChatList()
+                    .collect { response ->
+                        try {
+                            readStatusAdapter.fromJson(response.bodyAsText)?.let { applyReadStatus(it) }
+                        } catch (e: Exception) {
+                            Timber.e(e, "읽음 상태 변경분 파싱 실패")
+                        }
                     }
             }
         }
 
+        // 불러온 채팅 중 읽은 구간(fromSeq < seq <= toSeq)에 해당하는 채팅의 안 읽은 사람 수를 읽은 회원 한 명당 1씩 감소
+        private fun applyReadStatus(readStatus: ReadStatus) {
+            readDecrements.update { decrements ->
+                val updated = decrements.toMutableMap()
+                readStatus.reads.forEach { read ->
+                    loadedChats.values
+                        .filter { it.seq > read.fromSeq && it.seq <= read.toSeq }
+                        .forEach { updated[it.chatId] = (updated[it.chatId] ?: 0) + 1 }
+                }
+                updated
+            }
+        }
+
         // 투표 참여 여부 구독
         private fun subscribeError() {
             viewModelScope.launch {
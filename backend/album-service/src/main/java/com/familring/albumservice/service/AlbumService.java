@@ -19,7 +19,7 @@ import com.familring.albumservice.repository.PhotoRepository;
 import com.familring.albumservice.service.client.ClassificationServiceFeignClient;
 import com.familring.albumservice.service.client.FamilyServiceFeignClient;
 import com.familring.albumservice.service.client.FileServiceFeignClient;
-import com.familring.albumservice.service.client.UserServiceFeignClient;
+import com.familring.albumservice.service.client.UserInfoCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.springframework.beans.factory.annotation.Qualifier;
@@ -54,7 +54,7 @@ public class AlbumService {
     private final AlbumRepository albumRepository;
     private final AlbumQueryRepository albumQueryRepository;
     private final PhotoRepository photoRepository;
-    private final UserServiceFeignClient userServiceFeignClient;
+    private final UserInfoCache userInfoCache;
 
     @Qualifier("taskExecutor")
     private final Executor executor;
@@ -103,7 +103,7 @@ public class AlbumService {
      */
     @Transactional
     public void createPersonAlbum(PersonAlbumCreateRequest request) {
-        UserInfoResponse user = userServiceFeignClient.getUser(request.getUserId()).getData();
+        UserInfoResponse user = userInfoCache.getUser(request.getUserId());
 
         Album album = Album.builder().familyId(request.getFamilyId()).userId(request.getUserId())
                 .albumName(user.getUserNickname() + "의 앨범").albumType(PERSON).build();
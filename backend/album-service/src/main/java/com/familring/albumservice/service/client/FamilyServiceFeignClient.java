@@ -2,7 +2,9 @@ package com.familring.albumservice.service.client;
 
 import com.familring.albumservice.dto.client.FamilyInfoResponse;
 import com.familring.albumservice.dto.client.UserInfoResponse;
+import com.familring.common_module.cache.ClientCacheNames;
 import com.familring.common_module.dto.BaseResponse;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -14,9 +16,11 @@ import java.util.List;
 @FeignClient(name = "family-service")
 public interface FamilyServiceFeignClient {
     // 가족의 정보를 조회
+    @Cacheable(cacheNames = ClientCacheNames.FAMILY_INFO, cacheManager = ClientCacheNames.CACHE_MANAGER)
     @GetMapping("/client/family")
     BaseResponse<FamilyInfoResponse> getFamilyInfo(@RequestParam Long userId);
 
+    @Cacheable(cacheNames = ClientCacheNames.FAMILY_MEMBERS, cacheManager = ClientCacheNames.CACHE_MANAGER)
     @GetMapping("/client/family/member")
     BaseResponse<List<UserInfoResponse>> getFamilyMemberList(@RequestParam Long userId);
 }
@@ -2,13 +2,21 @@ package com.familring.albumservice.service.client;
 
 import com.familring.albumservice.dto.client.UserInfoResponse;
 import com.familring.common_module.dto.BaseResponse;
+import com.familring.common_module.dto.UserFieldSet;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
 
+import java.util.List;
 
 @FeignClient(name = "user-service")
 public interface UserServiceFeignClient {
+    @PostMapping("/client/users")
+    BaseResponse<List<UserInfoResponse>> getAllUser(@RequestBody List<Long> userIds, @RequestParam("fields") UserFieldSet fields);
+
     @GetMapping("/client/users/{userId}")
     BaseResponse<UserInfoResponse> getUser(@PathVariable Long userId);
 }
\ No newline at end of file
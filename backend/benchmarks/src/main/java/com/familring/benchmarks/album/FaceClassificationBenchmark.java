@@ -0,0 +1,94 @@
+package com.familring.benchmarks.album;
+
+import com.familring.albumservice.domain.Album;
+import com.familring.albumservice.domain.AlbumType;
+import com.familring.albumservice.domain.Photo;
+import com.familring.albumservice.dto.client.FaceSimilarityResponse;
+import com.familring.albumservice.dto.client.UserInfoResponse;
+import com.familring.albumservice.repository.AlbumRepository;
+import com.familring.albumservice.service.AlbumService;
+import com.familring.albumservice.service.client.ClassificationServiceFeignClient;
+import com.familring.albumservice.service.client.FamilyServiceFeignClient;
+import com.familring.benchmarks.support.Fakes;
+import com.familring.common_module.dto.BaseResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/*
+사진 업로드 후 얼굴 분류 후처리 (유사도 정렬 + 인물 앨범에 사진 복사)
+classification-service 응답은 미리 만들어 두고, 인물 앨범은 호출마다 새로 조회한 것처럼 새 객체로 반환
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FaceClassificationBenchmark {
+
+    private static final int MEMBERS = 5;
+
+    @Param({"10", "50"})
+    private int photos;
+
+    private AlbumService albumService;
+    private List<String> photoUrls;
+    private List<Photo> newPhotos;
+
+    @Setup
+    public void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper();
+        Random random = new Random(42);
+
+        List<UserInfoResponse> familyMembers = new ArrayList<>();
+        for (long userId = 1; userId <= MEMBERS; userId++) {
+            familyMembers.add(objectMapper.convertValue(
+                    Map.of("userId", userId, "userFace", "https://s3/face/" + userId + ".jpg"), UserInfoResponse.class));
+        }
+
+        photoUrls = new ArrayList<>();
+        newPhotos = new ArrayList<>();
+        List<FaceSimilarityResponse> similarities = new ArrayList<>();
+        for (int i = 0; i < photos; i++) {
+            String photoUrl = "https://s3/album/" + i + ".jpg";
+            photoUrls.add(photoUrl);
+            newPhotos.add(Photo.builder().photoUrl(photoUrl).build());
+
+            Map<Long, Double> similarity = new HashMap<>();
+            for (long userId = 1; userId <= MEMBERS; userId++) {
+                similarity.put(userId, random.nextDouble());
+            }
+            similarities.add(objectMapper.convertValue(
+                    Map.of("imageUrl", photoUrl, "similarities", similarity, "faceCount", 1 + random.nextInt(3)),
+                    FaceSimilarityResponse.class));
+        }
+
+        FamilyServiceFeignClient familyServiceFeignClient = Fakes.of(FamilyServiceFeignClient.class)
+                .on("getFamilyMemberList", args -> BaseResponse.create(200, "ok", familyMembers))
+                .build();
+        ClassificationServiceFeignClient classificationServiceFeignClient = Fakes.of(ClassificationServiceFeignClient.class)
+                .on("calculateSimilarity", args -> BaseResponse.create(200, "ok", similarities))
+                .build();
+        AlbumRepository albumRepository = Fakes.of(AlbumRepository.class)
+                .on("findByUserIdIn", args -> ((List<?>) args[0]).stream()
+                        .map(userId -> Album.builder()
+                                .userId((Long) userId)
+                                .albumName("person-" + userId)
+                                .albumType(AlbumType.PERSON)
+                                .build())
+                        .toList())
+                .build();
+
+        albumService = new AlbumService(null, familyServiceFeignClient, null, classificationServiceFeignClient,
+                albumRepository, null, null, null, null);
+    }
+
+    @Benchmark
+    public List<Photo> faceClassification() {
+        albumService.faceClassification(1L, photoUrls, newPhotos);
+        return newPhotos;
+    }
+}
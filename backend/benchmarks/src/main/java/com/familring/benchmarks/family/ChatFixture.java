@@ -0,0 +1,119 @@
+package com.familring.benchmarks.family;
+
+import com.familring.benchmarks.support.Fakes;
+import com.familring.benchmarks.support.InMemoryRedisUtil;
+import com.familring.common_module.cache.UserInfoNearCacheFactory;
+import com.familring.common_module.dto.BaseResponse;
+import com.familring.familyservice.model.dto.chat.Chat;
+import com.familring.familyservice.model.dto.chat.MessageType;
+import com.familring.familyservice.model.dto.chat.Vote;
+import com.familring.familyservice.model.dto.response.UserInfoResponse;
+import com.familring.familyservice.model.repository.ChatRepository;
+import com.familring.familyservice.model.repository.VoteRepository;
+import com.familring.familyservice.service.chat.ChatReadStateStore;
+import com.familring.familyservice.service.client.UserInfoCache;
+import com.familring.familyservice.service.client.UserServiceFeignClient;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+
+/*
+가족 채팅방 하나의 메모리 대역
+- 구성원 MEMBERS명, 채팅 CHATS개 (10개마다 투표), 최신 채팅이 앞에 오도록 정렬
+- 구성원마다 마지막으로 읽은 순번을 다르게 두어 읽은 수 계산이 분기를 모두 타도록 구성
+ */
+class ChatFixture {
+
+    static final Long ROOM_ID = 1L;
+    static final int MEMBERS = 5;
+    static final int CHATS = 1000;
+
+    final InMemoryRedisUtil redisUtil = new InMemoryRedisUtil();
+    final ChatReadStateStore chatReadStateStore = new ChatReadStateStore(redisUtil);
+    final UserInfoCache userInfoCache;
+    final ChatRepository chatRepository;
+    final VoteRepository voteRepository;
+
+    final List<Chat> chats = new ArrayList<>(); // createdAt 내림차순
+    final Map<String, Vote> votes = new HashMap<>();
+
+    ChatFixture() {
+        Map<Long, UserInfoResponse> users = new HashMap<>();
+        for (long userId = 1; userId <= MEMBERS; userId++) {
+            users.put(userId, UserInfoResponse.builder()
+                    .userId(userId)
+                    .userNickname("member-" + userId)
+                    .userZodiacSign("")
+                    .userColor("0xFFFFFFFF")
+                    .build());
+            // 구성원 i는 전체 채팅의 i / MEMBERS 지점까지 읽음
+            redisUtil.setHash("CHAT_READ_STATE_" + ROOM_ID, String.valueOf(userId), String.valueOf(CHATS * userId / MEMBERS));
+        }
+        redisUtil.setHash("CHAT_READ_STATE_" + ROOM_ID, "seq", String.valueOf(CHATS));
+
+        LocalDateTime now = LocalDateTime.now();
+        for (int seq = CHATS; seq >= 1; seq--) {
+            boolean isVote = seq % 10 == 0;
+            String voteId = isVote ? "vote-" + seq : "";
+            long senderId = seq % MEMBERS + 1;
+            if (isVote) {
+                votes.put(voteId, Vote.builder()
+                        .voteId(voteId)
+                        .voteTitle("vote " + seq)
+                        .voteMakerId(senderId)
+                        .familyCount(MEMBERS)
+                        .createdAt(now)
+                        .voteResult(new HashMap<>(Map.of("찬성", 2, "반대", 1)))
+                        .choices(new HashMap<>())
+                        .roomId(ROOM_ID)
+                        .senderId(senderId)
+                        .build());
+            }
+            chats.add(Chat.builder()
+                    .chatId(String.format("%024x", seq))
+                    .roomId(ROOM_ID)
+                    .messageType(isVote ? MessageType.VOTE : MessageType.MESSAGE)
+                    .familyCount(MEMBERS)
+                    .senderId(senderId)
+                    .content("message " + seq)
+                    .createdAt(now.minusSeconds(CHATS - seq))
+                    .voteId(voteId)
+                    .responseOfVote("")
+                    .resultOfVote(new HashMap<>())
+                    .seq(seq)
+                    .readByUserIds(new HashSet<>())
+                    .build());
+        }
+
+        UserServiceFeignClient userServiceFeignClient = Fakes.of(UserServiceFeignClient.class)
+                .on("getUser", args -> BaseResponse.create(200, "ok", users.get((Long) args[0])))
+                .on("getAllUser", args -> BaseResponse.create(200, "ok", ((List<?>) args[0]).stream().map(users::get).toList()))
+                .build();
+        this.userInfoCache = new UserInfoCache(userServiceFeignClient, new UserInfoNearCacheFactory(Duration.ofMinutes(1), 10_000, null));
+
+        this.chatRepository = Fakes.of(ChatRepository.class)
+                .on("findPageByRoomId", args -> {
+                    Pageable pageable = (Pageable) args[1];
+                    int from = (int) Math.min(pageable.getOffset(), chats.size());
+                    int to = Math.min(from + pageable.getPageSize(), chats.size());
+                    return new SliceImpl<>(chats.subList(from, to), pageable, to < chats.size());
+                })
+                .build();
+
+        this.voteRepository = Fakes.of(VoteRepository.class)
+                .on("findByVoteId", args -> Optional.ofNullable(votes.get((String) args[0])))
+                .on("findAllById", args -> {
+                    List<Vote> found = new ArrayList<>();
+                    ((Iterable<?>) args[0]).forEach(voteId -> Optional.ofNullable(votes.get(voteId)).ifPresent(found::add));
+                    return found;
+                })
+                .build();
+    }
+
+    Chat chatAt(int index) {
+        return chats.get(index);
+    }
+}
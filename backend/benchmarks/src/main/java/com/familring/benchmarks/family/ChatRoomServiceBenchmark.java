@@ -0,0 +1,35 @@
+package com.familring.benchmarks.family;
+
+import com.familring.familyservice.model.dto.response.ChatResponse;
+import com.familring.familyservice.service.chat.ChatRoomServiceImpl;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.Slice;
+
+import java.util.concurrent.TimeUnit;
+
+// 채팅 내역 한 페이지 조회 (발신자/투표 일괄 조회 + 읽음 상태 1회 조회 후 메시지별 읽은 수 계산)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ChatRoomServiceBenchmark {
+
+    @Param({"20", "100"})
+    private int size;
+
+    private ChatRoomServiceImpl chatRoomService;
+
+    @Setup
+    public void setUp() {
+        ChatFixture fixture = new ChatFixture();
+        chatRoomService = new ChatRoomServiceImpl(fixture.chatReadStateStore,
+                fixture.chatRepository, fixture.voteRepository, fixture.userInfoCache, null, null);
+    }
+
+    @Benchmark
+    public Slice<ChatResponse> findPagedChatByRoomId() {
+        return chatRoomService.findPagedChatByRoomId(ChatFixture.ROOM_ID, 2L, 0, size);
+    }
+}
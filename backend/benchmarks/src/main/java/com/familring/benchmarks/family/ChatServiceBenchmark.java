@@ -0,0 +1,41 @@
+package com.familring.benchmarks.family;
+
+import com.familring.familyservice.model.dto.chat.Chat;
+import com.familring.familyservice.model.dto.response.ChatResponse;
+import com.familring.familyservice.service.chat.ChatServiceImpl;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+// 채팅 한 건을 응답으로 변환 (발신자 캐시 조회 + 투표 조회 + 읽은 수 계산)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ChatServiceBenchmark {
+
+    private ChatServiceImpl chatService;
+    private Chat message;
+    private Chat vote;
+
+    @Setup
+    public void setUp() {
+        ChatFixture fixture = new ChatFixture();
+        chatService = new ChatServiceImpl(fixture.chatReadStateStore, fixture.userInfoCache,
+                null, null, null, null, fixture.voteRepository);
+        message = fixture.chatAt(1);
+        vote = fixture.chatAt(0);
+    }
+
+    @Benchmark
+    public ChatResponse findChatMessage() {
+        return chatService.findChat(message, 2L);
+    }
+
+    @Benchmark
+    public ChatResponse findChatVote() {
+        return chatService.findChat(vote, 2L);
+    }
+}
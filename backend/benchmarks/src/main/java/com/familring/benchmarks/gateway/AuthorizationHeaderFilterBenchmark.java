@@ -0,0 +1,65 @@
+package com.familring.benchmarks.gateway;
+
+import com.familring.apigateway.filter.AuthorizationHeaderFilter;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Encoders;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import javax.crypto.SecretKey;
+import java.security.SecureRandom;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+// 게이트웨이 인증 필터 - Authorization 헤더의 JWT 검증 후 X-User-ID 헤더를 붙인 요청으로 교체
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AuthorizationHeaderFilterBenchmark {
+
+    private GatewayFilter filter;
+    private String authorization;
+    private final GatewayFilterChain chain = exchange -> Mono.empty();
+
+    @Setup
+    public void setUp() {
+        byte[] secret = new byte[64];
+        new SecureRandom().nextBytes(secret);
+        SecretKey key = Keys.hmacShaKeyFor(secret);
+
+        AuthorizationHeaderFilter authorizationHeaderFilter = new AuthorizationHeaderFilter();
+        ReflectionTestUtils.setField(authorizationHeaderFilter, "secretKey", Encoders.BASE64.encode(secret));
+        authorizationHeaderFilter.generateKey();
+        filter = authorizationHeaderFilter.apply(new AuthorizationHeaderFilter.Config());
+
+        String jwt = Jwts.builder()
+                .subject("kakao-1")
+                .claim("userId", 1L)
+                .issuedAt(new Date())
+                .expiration(Date.from(Instant.now().plus(1, ChronoUnit.DAYS)))
+                .signWith(key)
+                .compact();
+        authorization = "Bearer " + jwt;
+    }
+
+    @Benchmark
+    public ServerWebExchange filter() {
+        ServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/users/info")
+                .header(HttpHeaders.AUTHORIZATION, authorization));
+        filter.filter(exchange, chain).block();
+        return exchange;
+    }
+}
@@ -0,0 +1,82 @@
+package com.familring.benchmarks.interest;
+
+import com.familring.benchmarks.support.Fakes;
+import com.familring.common_module.dto.BaseResponse;
+import com.familring.interestservice.domain.Interest;
+import com.familring.interestservice.domain.InterestAnswer;
+import com.familring.interestservice.dto.client.Family;
+import com.familring.interestservice.dto.client.UserInfoResponse;
+import com.familring.interestservice.dto.response.InterestAnswerResponse;
+import com.familring.interestservice.repository.InterestAnswerRepository;
+import com.familring.interestservice.repository.InterestRepository;
+import com.familring.interestservice.service.InterestService;
+import com.familring.interestservice.service.client.FamilyServiceFeignClient;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+// 최근 관심사에 대한 가족 구성원 답변 목록 (구성원 순서대로 답변 매칭)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class InterestAnswerBenchmark {
+
+    private static final Long FAMILY_ID = 1L;
+
+    @Param({"4", "8"})
+    private int members;
+
+    private InterestService interestService;
+
+    @Setup
+    public void setUp() {
+        Family family = Family.builder().familyId(FAMILY_ID).familyCount(members).build();
+        Interest interest = Interest.builder().id(1L).familyId(FAMILY_ID).missionEndDate(LocalDate.now()).build();
+
+        List<UserInfoResponse> familyMembers = new ArrayList<>();
+        List<InterestAnswer> interestAnswers = new ArrayList<>();
+        for (long userId = 1; userId <= members; userId++) {
+            familyMembers.add(UserInfoResponse.builder()
+                    .userId(userId)
+                    .userNickname("member-" + userId)
+                    .userZodiacSign("")
+                    .build());
+            // 절반만 답변
+            if (userId % 2 == 1) {
+                interestAnswers.add(InterestAnswer.builder()
+                        .id(userId)
+                        .interest(interest)
+                        .userId(userId)
+                        .familyId(FAMILY_ID)
+                        .content("answer " + userId)
+                        .build());
+            }
+        }
+
+        FamilyServiceFeignClient familyServiceFeignClient = Fakes.of(FamilyServiceFeignClient.class)
+                .on("getFamilyInfo", args -> BaseResponse.create(200, "ok", family))
+                .on("getFamilyMemberList", args -> BaseResponse.create(200, "ok", familyMembers))
+                .build();
+        InterestRepository interestRepository = Fakes.of(InterestRepository.class)
+                .on("findFirstByFamilyIdOrderByIdDesc", args -> Optional.of(interest))
+                .build();
+        InterestAnswerRepository interestAnswerRepository = Fakes.of(InterestAnswerRepository.class)
+                .on("findByInterestAndUserIdIn", args -> interestAnswers)
+                .build();
+
+        interestService = new InterestService(interestRepository, interestAnswerRepository, null,
+                familyServiceFeignClient, null, null, null);
+    }
+
+    @Benchmark
+    public List<InterestAnswerResponse> getInterestAnswerList() {
+        return interestService.getInterestAnswerList(1L);
+    }
+}
@@ -0,0 +1,91 @@
+package com.familring.benchmarks.question;
+
+import com.familring.benchmarks.support.Fakes;
+import com.familring.common_module.dto.BaseResponse;
+import com.familring.questionservice.domain.Question;
+import com.familring.questionservice.domain.QuestionAnswer;
+import com.familring.questionservice.domain.QuestionFamily;
+import com.familring.questionservice.dto.client.Family;
+import com.familring.questionservice.dto.client.UserInfoResponse;
+import com.familring.questionservice.dto.response.QuestionResponse;
+import com.familring.questionservice.repository.QuestionAnswerRepository;
+import com.familring.questionservice.repository.QuestionFamilyRepository;
+import com.familring.questionservice.repository.QuestionRepository;
+import com.familring.questionservice.service.QuestionService;
+import com.familring.questionservice.service.client.FamilyServiceFeignClient;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+// 오늘의 질문 + 가족 구성원 답변 여부 조회 (요청한 회원의 답변을 맨 앞으로 이동)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class QuestionBenchmark {
+
+    private static final Long FAMILY_ID = 1L;
+
+    @Param({"4", "8"})
+    private int members;
+
+    private QuestionService questionService;
+    private Long lastMemberId;
+
+    @Setup
+    public void setUp() {
+        Family family = Family.builder().familyId(FAMILY_ID).familyCount(members).build();
+        Question question = Question.builder().id(7L).content("가장 기억에 남는 가족 여행은?").build();
+        QuestionFamily questionFamily = QuestionFamily.builder().id(1L).question(question).familyId(FAMILY_ID).build();
+
+        List<UserInfoResponse> familyMembers = new ArrayList<>();
+        Map<Long, QuestionAnswer> answers = new HashMap<>();
+        for (long userId = 1; userId <= members; userId++) {
+            familyMembers.add(UserInfoResponse.builder()
+                    .userId(userId)
+                    .userNickname("member-" + userId)
+                    .userZodiacSign("")
+                    .userColor("0xFFFFFFFF")
+                    .build());
+            // 절반만 답변
+            if (userId % 2 == 1) {
+                answers.put(userId, QuestionAnswer.builder()
+                        .id(userId)
+                        .questionFamily(questionFamily)
+                        .userId(userId)
+                        .answer("answer " + userId)
+                        .createdAt(LocalDate.now())
+                        .build());
+            }
+        }
+        lastMemberId = (long) members;
+
+        FamilyServiceFeignClient familyServiceFeignClient = Fakes.of(FamilyServiceFeignClient.class)
+                .on("getFamilyInfo", args -> BaseResponse.create(200, "ok", family))
+                .on("getFamilyMemberListByFamilyId", args -> BaseResponse.create(200, "ok", familyMembers))
+                .build();
+        QuestionFamilyRepository questionFamilyRepository = Fakes.of(QuestionFamilyRepository.class)
+                .on("findByFamilyId", args -> Optional.of(questionFamily))
+                .on("findByQuestionIdAndFamilyId", args -> Optional.of(questionFamily))
+                .build();
+        QuestionRepository questionRepository = Fakes.of(QuestionRepository.class)
+                .on("findById", args -> Optional.of(question))
+                .build();
+        QuestionAnswerRepository questionAnswerRepository = Fakes.of(QuestionAnswerRepository.class)
+                .on("findByQuestionFamilyAndUserId", args -> Optional.ofNullable(answers.get((Long) args[1])))
+                .build();
+
+        questionService = new QuestionService(questionRepository, questionAnswerRepository, questionFamilyRepository,
+                familyServiceFeignClient, null, null);
+    }
+
+    // 마지막 구성원이 조회해서 본인 답변 이동까지 포함
+    @Benchmark
+    public QuestionResponse getQuestion() {
+        return questionService.getQuestion(lastMemberId, null);
+    }
+}
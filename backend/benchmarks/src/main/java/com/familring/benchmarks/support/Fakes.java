@@ -0,0 +1,51 @@
+package com.familring.benchmarks.support;
+
+import java.lang.reflect.Proxy;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/*
+Feign 클라이언트 / Spring Data 레포지토리 인터페이스의 메모리 대역
+벤치마크에서 호출하는 메서드만 이름으로 등록하고, 등록하지 않은 메서드를 호출하면 예외
+Mockito와 달리 호출 기록을 남기지 않으므로 측정값에 대역 비용이 거의 섞이지 않음
+ */
+public final class Fakes {
+
+    private Fakes() {
+    }
+
+    public static <T> Builder<T> of(Class<T> type) {
+        return new Builder<>(type);
+    }
+
+    public static final class Builder<T> {
+        private final Class<T> type;
+        private final Map<String, Function<Object[], Object>> answers = new HashMap<>();
+
+        private Builder(Class<T> type) {
+            this.type = type;
+        }
+
+        public Builder<T> on(String methodName, Function<Object[], Object> answer) {
+            answers.put(methodName, answer);
+            return this;
+        }
+
+        public T build() {
+            Object proxy = Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (self, method, args) -> {
+                Function<Object[], Object> answer = answers.get(method.getName());
+                if (answer != null) {
+                    return answer.apply(args);
+                }
+                return switch (method.getName()) {
+                    case "toString" -> "Fake(" + type.getSimpleName() + ")";
+                    case "hashCode" -> System.identityHashCode(self);
+                    case "equals" -> self == args[0];
+                    default -> throw new UnsupportedOperationException(type.getSimpleName() + "." + method.getName());
+                };
+            });
+            return type.cast(proxy);
+        }
+    }
+}
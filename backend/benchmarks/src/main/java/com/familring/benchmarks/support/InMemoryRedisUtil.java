@@ -0,0 +1,56 @@
+package com.familring.benchmarks.support;
+
+import com.familring.familyservice.config.redis.RedisUtil;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 채팅 읽음 상태(CHAT_READ_STATE_{roomId} 해시) 조회에 쓰이는 RedisUtil 메서드만 메모리로 대체
+public class InMemoryRedisUtil extends RedisUtil {
+
+    private final Map<String, Map<String, String>> hashes = new ConcurrentHashMap<>();
+
+    public InMemoryRedisUtil() {
+        super(null, new SimpleMeterRegistry());
+    }
+
+    @Override
+    public void setHash(String key, String field, String value) {
+        hashes.computeIfAbsent(key, k -> new ConcurrentHashMap<>()).put(field, value);
+    }
+
+    @Override
+    public String getHash(String key, String field) {
+        return hashes.getOrDefault(key, Map.of()).get(field);
+    }
+
+    @Override
+    public Map<String, String> getHashEntries(String key) {
+        return new HashMap<>(hashes.getOrDefault(key, Map.of()));
+    }
+
+    // ChatReadStateStore의 countReaders 스크립트와 같은 결과를 반환
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T executeScript(String operation, RedisScript<T> script, List<String> keys, String... args) {
+        if (!"countReaders".equals(operation)) {
+            throw new UnsupportedOperationException(operation);
+        }
+
+        Map<String, String> readState = hashes.computeIfAbsent(keys.get(0), k -> new ConcurrentHashMap<>());
+        long seq = Long.parseLong(args[1]);
+        if (!args[0].isEmpty()) {
+            readState.merge(args[0], args[1], (current, target) -> Long.parseLong(current) < seq ? target : current);
+        }
+
+        long count = readState.entrySet().stream()
+                .filter(entry -> !"seq".equals(entry.getKey()))
+                .filter(entry -> Long.parseLong(entry.getValue()) >= seq)
+                .count();
+        return (T) Long.valueOf(count);
+    }
+}
@@ -0,0 +1,102 @@
+package com.familring.benchmarks.user;
+
+import com.familring.benchmarks.support.Fakes;
+import com.familring.userservice.model.dao.UserDao;
+import com.familring.userservice.model.dto.UserDto;
+import com.familring.userservice.model.dto.response.UserInfoResponse;
+import com.familring.userservice.service.UserServiceImpl;
+import com.familring.userservice.service.cache.UserCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.cloud.bus.BusProperties;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/*
+/users/info (UserServiceImpl.getAllUser) 호출 한 번의 비용을 가족 구성원 수별로 측정
+- getAllUser  : IN 쿼리 한 번 (findUsersByUserIds)
+- getUserEach : 구성원마다 findUserByUserId 호출 (변경 전 방식, 비교 기준)
+UserDao 대역은 쿼리 한 번마다 roundTripMicros만큼 대기해서 DB 왕복 시간을 흉내냄
+cached=false면 회원 캐시 TTL을 0으로 두어 매번 UserDao까지 조회
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class UserLookupBenchmark {
+
+    @Param({"2", "4", "8", "16"})
+    private int members;
+
+    @Param({"0", "300"})
+    private long roundTripMicros;
+
+    @Param({"false", "true"})
+    private boolean cached;
+
+    private UserServiceImpl userService;
+    private List<Long> userIds;
+
+    @Setup
+    public void setUp() {
+        Map<Long, UserDto> users = new HashMap<>();
+        userIds = new ArrayList<>();
+        for (long userId = 1; userId <= members; userId++) {
+            users.put(userId, UserDto.builder()
+                    .userId(userId)
+                    .userKakaoId("kakao-" + userId)
+                    .userNickname("member-" + userId)
+                    .userZodiacSign("")
+                    .userColor("0xFFFFFFFF")
+                    .userEmotion("")
+                    .build());
+            userIds.add(userId);
+        }
+        Collections.reverse(userIds); // 요청 순서 유지 비용 포함
+
+        long roundTripNanos = TimeUnit.MICROSECONDS.toNanos(roundTripMicros);
+        UserDao userDao = Fakes.of(UserDao.class)
+                .on("findUserByUserId", args -> {
+                    roundTrip(roundTripNanos);
+                    return Optional.ofNullable(users.get((Long) args[0]));
+                })
+                .on("findUsersByUserIds", args -> {
+                    roundTrip(roundTripNanos);
+                    List<UserDto> rows = new ArrayList<>();
+                    for (Object userId : (Collection<?>) args[0]) {
+                        Optional.ofNullable(users.get((Long) userId)).ifPresent(rows::add);
+                    }
+                    return rows;
+                })
+                .build();
+
+        UserCache userCache = new UserCache(userDao, event -> {
+        }, new BusProperties(), new SimpleMeterRegistry(), "user-service", 10_000, cached ? Duration.ofMinutes(10) : Duration.ZERO);
+        userService = new UserServiceImpl(userDao, userCache, null, null, null, null, null, null);
+    }
+
+    @Benchmark
+    public List<UserInfoResponse> getAllUser() {
+        return userService.getAllUser(userIds);
+    }
+
+    @Benchmark
+    public List<UserInfoResponse> getUserEach() {
+        List<UserInfoResponse> responses = new ArrayList<>(userIds.size());
+        for (Long userId : userIds) {
+            responses.add(userService.getUser(userId));
+        }
+        return responses;
+    }
+
+    private static void roundTrip(long nanos) {
+        if (nanos > 0) {
+            LockSupport.parkNanos(nanos);
+        }
+    }
+}
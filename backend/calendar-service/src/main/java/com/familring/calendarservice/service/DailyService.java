@@ -9,7 +9,7 @@ import com.familring.calendarservice.exception.daily.InvalidDailyRequestExceptio
 import com.familring.calendarservice.service.client.FamilyServiceFeignClient;
 import com.familring.calendarservice.repository.DailyRepository;
 import com.familring.calendarservice.service.client.FileServiceFeignClient;
-import com.familring.calendarservice.service.client.UserServiceFeignClient;
+import com.familring.calendarservice.service.client.UserInfoCache;
 import com.familring.common_module.dto.BaseResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
@@ -32,7 +32,7 @@ public class DailyService {
 
     private final FamilyServiceFeignClient familyServiceFeignClient;
     private final FileServiceFeignClient fileServiceFeignClient;
-    private final UserServiceFeignClient userServiceFeignClient;
+    private final UserInfoCache userInfoCache;
     private final DailyRepository dailyRepository;
 
     @Value("${aws.s3.daily-photo-path}")
@@ -111,8 +111,8 @@ public class DailyService {
     public List<DailyResponse> getDailies(List<Long> dailyIds, Long userId) {
         List<Daily> dailies = dailyRepository.findAllById(dailyIds);
 
-        Map<Long, UserInfoResponse> userMap = userServiceFeignClient
-                .getAllUser(dailies.stream().map(Daily::getAuthorId).distinct().toList()).getData()
+        Map<Long, UserInfoResponse> userMap = userInfoCache
+                .getAllUser(dailies.stream().map(Daily::getAuthorId).distinct().toList())
                 .stream().collect(Collectors.toMap(UserInfoResponse::getUserId, u -> u));
 
         return dailies.stream().map(daily -> {
@@ -131,8 +131,8 @@ public class DailyService {
         LocalDate date = LocalDate.of(year, month, day);
         List<Daily> dailies = dailyRepository.findByDateAndFamilyId(date, familyId);
 
-        Map<Long, UserInfoResponse> userMap = userServiceFeignClient
-                .getAllUser(dailies.stream().map(Daily::getAuthorId).distinct().toList()).getData()
+        Map<Long, UserInfoResponse> userMap = userInfoCache
+                .getAllUser(dailies.stream().map(Daily::getAuthorId).distinct().toList())
                 .stream().collect(Collectors.toMap(UserInfoResponse::getUserId, u -> u));
 
         return dailies.stream().map(daily -> {
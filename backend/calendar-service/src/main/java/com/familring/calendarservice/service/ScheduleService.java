@@ -17,7 +17,7 @@ import com.familring.calendarservice.service.client.AlbumServiceFeignClient;
 import com.familring.calendarservice.service.client.FamilyServiceFeignClient;
 import com.familring.calendarservice.repository.ScheduleRepository;
 import com.familring.calendarservice.service.client.NotificationServiceFeignClient;
-import com.familring.calendarservice.service.client.UserServiceFeignClient;
+import com.familring.calendarservice.service.client.UserInfoCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.springframework.stereotype.Service;
@@ -41,7 +41,7 @@ public class ScheduleService {
     private final ScheduleRepository scheduleRepository;
     private final ScheduleUserRepository scheduleUserRepository;
     private final NotificationServiceFeignClient notificationServiceFeignClient;
-    private final UserServiceFeignClient userServiceFeignClient;
+    private final UserInfoCache userInfoCache;
 
     public List<ScheduleDateResponse> getSchedulesByYearAndMonth(int year, int month, Long userId) {
         Long familyId = familyServiceFeignClient.getFamilyInfo(userId).getData().getFamilyId();
@@ -110,7 +110,7 @@ public class ScheduleService {
                     .map(ScheduleUser::getAttendeeId)
                     .filter(id -> !id.equals(userId)).toList();
 
-            UserInfoResponse userInfo = userServiceFeignClient.getUser(userId).getData();
+            UserInfoResponse userInfo = userInfoCache.getUser(userId);
             String title = userInfo.getUserNickname() + "님이 새로운 일정을 등록했어요 \uD83D\uDCC5";
 
             DateTimeFormatter formatter = DateTimeFormatter.ofPattern("[yyyy/MM/dd]");
@@ -144,7 +144,7 @@ public class ScheduleService {
         List<Long> attendeeIds = schedule.getScheduleUsers().stream().map(ScheduleUser::getAttendeeId)
                 .filter(id -> !id.equals(userId)).toList();
 
-        UserInfoResponse userInfo = userServiceFeignClient.getUser(userId).getData();
+        UserInfoResponse userInfo = userInfoCache.getUser(userId);
         String title = userInfo.getUserNickname() + "님이 일정을 삭제했어요 \uD83D\uDCC5";
 
         DateTimeFormatter formatter = DateTimeFormatter.ofPattern("[yyyy/MM/dd]");
@@ -214,7 +214,7 @@ public class ScheduleService {
             totalAttendeeIds.addAll(afterAttendeeIds);
             totalAttendeeIds.remove(userId);
 
-            UserInfoResponse userInfo = userServiceFeignClient.getUser(userId).getData();
+            UserInfoResponse userInfo = userInfoCache.getUser(userId);
             String title = userInfo.getUserNickname() + "님이 일정을 수정했어요 \uD83D\uDCC5";
 
             DateTimeFormatter formatter = DateTimeFormatter.ofPattern("[yyyy/MM/dd]");
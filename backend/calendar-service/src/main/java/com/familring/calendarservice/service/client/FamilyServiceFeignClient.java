@@ -2,7 +2,9 @@ package com.familring.calendarservice.service.client;
 
 import com.familring.calendarservice.dto.client.FamilyInfoResponse;
 import com.familring.calendarservice.dto.client.UserInfoResponse;
+import com.familring.common_module.cache.ClientCacheNames;
 import com.familring.common_module.dto.BaseResponse;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestParam;
@@ -12,10 +14,12 @@ import java.util.List;
 @FeignClient(name = "family-service")
 public interface FamilyServiceFeignClient {
     // 가족의 정보를 조회
+    @Cacheable(cacheNames = ClientCacheNames.FAMILY_INFO, cacheManager = ClientCacheNames.CACHE_MANAGER)
     @GetMapping("/client/family")
     BaseResponse<FamilyInfoResponse> getFamilyInfo(@RequestParam Long userId);
 
     // 가족 구성원들을 조회
+    @Cacheable(cacheNames = ClientCacheNames.FAMILY_MEMBERS, cacheManager = ClientCacheNames.CACHE_MANAGER)
     @GetMapping("/client/family/member")
     BaseResponse<List<UserInfoResponse>> getFamilyMembers(@RequestParam Long userId);
 }
@@ -0,0 +1,18 @@
+package com.familring.calendarservice.service.client;
+
+import com.familring.calendarservice.dto.client.UserInfoResponse;
+import com.familring.common_module.cache.UserInfoClientCache;
+import com.familring.common_module.cache.UserInfoNearCacheFactory;
+import com.familring.common_module.dto.UserFieldSet;
+import org.springframework.stereotype.Component;
+
+// user-service 회원 정보 캐시 (common-module UserInfoClientCache)
+// 닉네임, 띠, 색상만 쓰므로 profile-lite 필드 묶음으로 조회
+@Component
+public class UserInfoCache extends UserInfoClientCache<UserInfoResponse> {
+
+    public UserInfoCache(UserServiceFeignClient userServiceFeignClient, UserInfoNearCacheFactory userInfoNearCacheFactory) {
+        super(userInfoNearCacheFactory,
+                userIds -> userServiceFeignClient.getAllUser(userIds, UserFieldSet.PROFILE_LITE).getData(), UserInfoResponse::getUserId);
+    }
+}
@@ -2,6 +2,7 @@ package com.familring.calendarservice.service.client;
 
 import com.familring.calendarservice.dto.client.UserInfoResponse;
 import com.familring.common_module.dto.BaseResponse;
+import com.familring.common_module.dto.UserFieldSet;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -9,13 +10,14 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
 
 import java.util.List;
 
 @FeignClient(name = "user-service")
 public interface UserServiceFeignClient {
     @PostMapping("/client/users")
-    BaseResponse<List<UserInfoResponse>> getAllUser(@RequestBody List<Long> userIds);
+    BaseResponse<List<UserInfoResponse>> getAllUser(@RequestBody List<Long> userIds, @RequestParam("fields") UserFieldSet fields);
 
     @GetMapping("/client/users/{userId}")
     BaseResponse<UserInfoResponse> getUser(@PathVariable Long userId);
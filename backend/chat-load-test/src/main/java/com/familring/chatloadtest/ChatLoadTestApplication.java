@@ -0,0 +1,17 @@
+package com.familring.chatloadtest;
+
+import com.familring.chatloadtest.config.LoadTestProperties;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+
+@SpringBootApplication
+@EnableConfigurationProperties(LoadTestProperties.class)
+public class ChatLoadTestApplication {
+
+    public static void main(String[] args) {
+        // SLO 결과를 종료 코드로 전달 (CI에서 실패 판정)
+        System.exit(SpringApplication.exit(SpringApplication.run(ChatLoadTestApplication.class, args)));
+    }
+
+}
@@ -0,0 +1,134 @@
+package com.familring.chatloadtest;
+
+import com.familring.chatloadtest.client.MemberSession;
+import com.familring.chatloadtest.config.LoadTestProperties;
+import com.familring.chatloadtest.report.LoadTestMetrics;
+import com.familring.chatloadtest.report.LoadTestReport;
+import com.familring.chatloadtest.setup.FamilySetup;
+import com.familring.chatloadtest.setup.SimulatedFamily;
+import com.familring.chatloadtest.stub.ServiceStubServer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.ExitCodeGenerator;
+import org.springframework.messaging.converter.SimpleMessageConverter;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.WebSocketHttpHeaders;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+
+/*
+채팅 부하 테스트 순서
+1. (선택) user/album/question-service 대역 서버 시작
+2. family-service REST API로 가상 가족 준비
+3. rampUp 동안 구성원 STOMP 세션을 나눠서 연결 + 채팅방 구독
+4. duration 동안 구성원마다 messagesPerMinutePerMember 속도로 채팅/투표 전송 (투표에는 다른 구성원이 응답)
+5. responseTimeout 만큼 남은 브로드캐스트를 기다린 뒤 결과 출력, SLO 위반이면 종료 코드 1
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LoadTestRunner implements CommandLineRunner, ExitCodeGenerator {
+
+    private final LoadTestProperties properties;
+    private final ObjectMapper objectMapper;
+
+    private int exitCode = 0;
+
+    @Override
+    public void run(String... args) throws Exception {
+        ServiceStubServer stub = new ServiceStubServer(properties, objectMapper);
+        if (properties.getStub().isEnabled()) {
+            stub.start();
+        }
+
+        ThreadPoolTaskScheduler heartbeatScheduler = new ThreadPoolTaskScheduler();
+        heartbeatScheduler.setPoolSize(Runtime.getRuntime().availableProcessors());
+        heartbeatScheduler.setThreadNamePrefix("load-heartbeat-");
+        heartbeatScheduler.initialize();
+
+        WebSocketStompClient stompClient = new WebSocketStompClient(new StandardWebSocketClient());
+        stompClient.setMessageConverter(new SimpleMessageConverter());
+        stompClient.setTaskScheduler(heartbeatScheduler);
+        stompClient.setDefaultHeartbeat(new long[]{10000, 10000});
+
+        ScheduledExecutorService senders = Executors.newScheduledThreadPool(Runtime.getRuntime().availableProcessors());
+        LoadTestMetrics metrics = new LoadTestMetrics();
+        List<MemberSession> sessions = new ArrayList<>();
+
+        try {
+            List<SimulatedFamily> families = new FamilySetup(properties, objectMapper).prepare();
+            connect(stompClient, families, metrics, sessions);
+
+            long startedAt = System.nanoTime();
+            schedule(senders, sessions);
+            Thread.sleep(properties.getDuration().toMillis());
+            senders.shutdownNow();
+
+            // 마지막으로 보낸 메시지의 브로드캐스트 대기
+            Thread.sleep(properties.getResponseTimeout().toMillis());
+
+            LoadTestReport report = metrics.report(System.nanoTime() - startedAt, properties.getResponseTimeout().toNanos());
+            log.info(report.format(properties.getSlo()));
+            exitCode = report.meetsSlo(properties.getSlo()) ? 0 : 1;
+        } finally {
+            senders.shutdownNow();
+            sessions.forEach(MemberSession::disconnect);
+            heartbeatScheduler.shutdown();
+            stub.stop();
+        }
+    }
+
+    // rampUp 동안 고르게 나눠서 연결
+    private void connect(WebSocketStompClient stompClient, List<SimulatedFamily> families,
+                         LoadTestMetrics metrics, List<MemberSession> sessions) throws InterruptedException {
+        int total = families.size() * properties.getMembersPerFamily();
+        long intervalNanos = total == 0 ? 0 : properties.getRampUp().toNanos() / total;
+
+        List<CompletableFuture<?>> connecting = new ArrayList<>();
+        for (SimulatedFamily family : families) {
+            for (Long memberId : family.getMemberIds()) {
+                MemberSession session = new MemberSession(memberId, family.getRoomId(), properties.getPayloadMode(), metrics, objectMapper);
+                connecting.add(stompClient.connectAsync(properties.getWsUrl(), new WebSocketHttpHeaders(), session.connectHeaders(), session)
+                        .whenComplete((stompSession, e) -> {
+                            if (e != null) {
+                                log.debug("[connect] 연결 실패", e);
+                                metrics.recordConnectFailure();
+                            }
+                        }));
+                sessions.add(session);
+                TimeUnit.NANOSECONDS.sleep(intervalNanos);
+            }
+        }
+
+        try {
+            CompletableFuture.allOf(connecting.toArray(CompletableFuture[]::new))
+                    .get(properties.getResponseTimeout().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException | TimeoutException e) {
+            // 실패한 연결은 connectFailures로 집계
+        }
+        log.info("[connect] 세션 연결 완료 {}/{}", sessions.stream().filter(MemberSession::isConnected).count(), total);
+    }
+
+    // 구성원마다 시작 시점을 흩어서 일정한 간격으로 전송
+    private void schedule(ScheduledExecutorService senders, List<MemberSession> sessions) {
+        long periodMicros = (long) (TimeUnit.MINUTES.toMicros(1) / properties.getMessagesPerMinutePerMember());
+        for (MemberSession session : sessions) {
+            long initialDelay = ThreadLocalRandom.current().nextLong(periodMicros);
+            senders.scheduleAtFixedRate(
+                    () -> session.sendChat(ThreadLocalRandom.current().nextDouble() < properties.getVoteRatio()),
+                    initialDelay, periodMicros, TimeUnit.MICROSECONDS);
+        }
+    }
+
+    @Override
+    public int getExitCode() {
+        return exitCode;
+    }
+}
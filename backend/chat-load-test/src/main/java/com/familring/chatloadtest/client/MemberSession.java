@@ -0,0 +1,176 @@
+package com.familring.chatloadtest.client;
+
+import com.familring.chatloadtest.report.LoadTestMetrics;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.simp.stomp.*;
+import org.springframework.util.MimeTypeUtils;
+
+import java.lang.reflect.Type;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 가상 가족 구성원 한 명의 STOMP 세션 - 채팅방을 구독하고 채팅/투표/투표 응답 전송
+@Slf4j
+public class MemberSession extends StompSessionHandlerAdapter {
+
+    private static final String TOKEN_PREFIX = "lt|";
+
+    private final Long userId;
+    private final Long roomId;
+    private final String payloadMode;
+    private final LoadTestMetrics metrics;
+    private final ObjectMapper objectMapper;
+    private final AtomicLong sequence = new AtomicLong();
+
+    private volatile StompSession session;
+
+    public MemberSession(Long userId, Long roomId, String payloadMode, LoadTestMetrics metrics, ObjectMapper objectMapper) {
+        this.userId = userId;
+        this.roomId = roomId;
+        this.payloadMode = payloadMode;
+        this.metrics = metrics;
+        this.objectMapper = objectMapper;
+    }
+
+    public StompHeaders connectHeaders() {
+        StompHeaders headers = new StompHeaders();
+        headers.add("X-User-ID", String.valueOf(userId));
+        headers.add("X-Payload-Mode", payloadMode);
+        return headers;
+    }
+
+    public boolean isConnected() {
+        return session != null && session.isConnected();
+    }
+
+    @Override
+    public void afterConnected(StompSession session, StompHeaders connectedHeaders) {
+        this.session = session;
+        // 채팅방 구독 (family-service가 접속자 등록 + 읽음 처리)
+        session.subscribe("/room/" + roomId, new FrameHandler(this::handleBroadcast));
+        session.subscribe("/room/" + roomId + "/error", new FrameHandler(payload -> metrics.recordError()));
+    }
+
+    // 일반 채팅 또는 투표 전송
+    public void sendChat(boolean vote) {
+        if (!isConnected()) {
+            return;
+        }
+
+        String content = nextToken();
+        Map<String, Object> request = new LinkedHashMap<>();
+        request.put("roomId", roomId);
+        request.put("senderId", userId);
+        request.put("content", content);
+        if (vote) {
+            request.put("messageType", "VOTE");
+            request.put("isVote", true);
+            request.put("voteTitle", content);
+        } else {
+            request.put("messageType", "MESSAGE");
+        }
+        send("/send/chat.send", content, request);
+    }
+
+    private void sendVoteResponse(String voteId) {
+        String content = nextToken();
+        Map<String, Object> request = new LinkedHashMap<>();
+        request.put("roomId", roomId);
+        request.put("senderId", userId);
+        request.put("messageType", "VOTE_RESPONSE");
+        request.put("voteId", voteId);
+        request.put("isVoteResponse", true);
+        request.put("responseOfVote", ThreadLocalRandom.current().nextBoolean() ? "찬성" : "반대");
+        request.put("content", content);
+        send("/send/chat.vote", content, request);
+    }
+
+    private void send(String destination, String content, Map<String, Object> request) {
+        try {
+            StompHeaders headers = new StompHeaders();
+            headers.setDestination(destination);
+            headers.setContentType(MimeTypeUtils.APPLICATION_JSON);
+
+            metrics.recordSend(content.substring(TOKEN_PREFIX.length()));
+            session.send(headers, objectMapper.writeValueAsBytes(request));
+        } catch (Exception e) {
+            log.debug("[send] 전송 실패 userId={}", userId, e);
+            metrics.recordError();
+        }
+    }
+
+    private void handleBroadcast(byte[] payload) {
+        metrics.recordDelivery();
+        try {
+            JsonNode chat = objectMapper.readTree(payload);
+            String content = chat.path("content").asText("");
+            long senderId = chat.path("senderId").asLong();
+
+            // 본인이 보낸 메시지가 돌아오면 지연 시간 기록
+            if (senderId == userId && content.startsWith(TOKEN_PREFIX)) {
+                metrics.recordAck(content.substring(TOKEN_PREFIX.length()));
+            }
+
+            // 다른 구성원이 만든 투표에는 응답
+            if (senderId != userId && "VOTE".equals(chat.path("messageType").asText())) {
+                String voteId = chat.path("vote").path("voteId").asText(null);
+                if (voteId != null) {
+                    sendVoteResponse(voteId);
+                }
+            }
+        } catch (Exception e) {
+            log.debug("[handleBroadcast] 브로드캐스트 처리 실패 userId={}", userId, e);
+            metrics.recordError();
+        }
+    }
+
+    private String nextToken() {
+        return TOKEN_PREFIX + userId + "-" + sequence.incrementAndGet();
+    }
+
+    public void disconnect() {
+        if (isConnected()) {
+            session.disconnect();
+        }
+    }
+
+    @Override
+    public void handleException(StompSession session, StompCommand command, StompHeaders headers, byte[] payload, Throwable exception) {
+        log.debug("[handleException] userId={}, command={}", userId, command, exception);
+        metrics.recordError();
+    }
+
+    @Override
+    public void handleTransportError(StompSession session, Throwable exception) {
+        log.debug("[handleTransportError] userId={}", userId, exception);
+        metrics.recordError();
+    }
+
+    @Override
+    public void handleFrame(StompHeaders headers, Object payload) {
+        // 구독 밖에서 받은 ERROR 프레임
+        metrics.recordError();
+    }
+
+    private static class FrameHandler implements StompFrameHandler {
+        private final java.util.function.Consumer<byte[]> consumer;
+
+        private FrameHandler(java.util.function.Consumer<byte[]> consumer) {
+            this.consumer = consumer;
+        }
+
+        @Override
+        public Type getPayloadType(StompHeaders headers) {
+            return byte[].class;
+        }
+
+        @Override
+        public void handleFrame(StompHeaders headers, Object payload) {
+            consumer.accept((byte[]) payload);
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.familring.chatloadtest.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "loadtest")
+public class LoadTestProperties {
+
+    // family-service 주소
+    private String httpUrl = "http://localhost:8080";
+    private String wsUrl = "ws://localhost:8080/ws-stomp/websocket";
+    private String payloadMode = "full"; // compact: 발신자 프로필/투표 중복 제거 모드
+
+    // 가상 가족 구성
+    private int families = 100;
+    private int membersPerFamily = 4;
+    private long firstUserId = 1_000_000L;
+
+    // 부하 패턴
+    private Duration rampUp = Duration.ofSeconds(10); // 세션 연결을 나눠서 여는 시간
+    private Duration duration = Duration.ofMinutes(1); // 메시지 전송 시간
+    private double messagesPerMinutePerMember = 6;
+    private double voteRatio = 0.05; // 전송 메시지 중 투표 비율
+    private Duration responseTimeout = Duration.ofSeconds(5); // 이 시간 안에 브로드캐스트를 받지 못하면 실패
+
+    private Slo slo = new Slo();
+    private Stub stub = new Stub();
+
+    @Data
+    public static class Slo {
+        private Duration p99 = Duration.ofMillis(200);
+        private double maxErrorRate = 0.01;
+    }
+
+    @Data
+    public static class Stub {
+        private boolean enabled = true;
+        private int port = 18081;
+    }
+}
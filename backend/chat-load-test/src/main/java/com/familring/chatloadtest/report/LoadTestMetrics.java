@@ -0,0 +1,104 @@
+package com.familring.chatloadtest.report;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+// 전송 -> 브로드캐스트 수신 지연 시간과 전송/수신/오류 집계
+public class LoadTestMetrics {
+
+    private final Map<String, Long> pendingSends = new ConcurrentHashMap<>(); // token -> 전송 시각 (nanoTime)
+    private final LongAdder sent = new LongAdder();
+    private final LongAdder acknowledged = new LongAdder(); // 본인 메시지 브로드캐스트 수신
+    private final LongAdder delivered = new LongAdder(); // 전체 브로드캐스트 수신 (fan-out 포함)
+    private final LongAdder errors = new LongAdder();
+    private final LongAdder connectFailures = new LongAdder();
+
+    private long[] latencies = new long[1 << 16];
+    private int latencyCount = 0;
+
+    public void recordSend(String token) {
+        pendingSends.put(token, System.nanoTime());
+        sent.increment();
+    }
+
+    public void recordAck(String token) {
+        Long sentAt = pendingSends.remove(token);
+        if (sentAt == null) {
+            return;
+        }
+        acknowledged.increment();
+        recordLatency(System.nanoTime() - sentAt);
+    }
+
+    public void recordDelivery() {
+        delivered.increment();
+    }
+
+    public void recordError() {
+        errors.increment();
+    }
+
+    public void recordConnectFailure() {
+        connectFailures.increment();
+    }
+
+    // responseTimeout 안에 브로드캐스트를 받지 못한 전송 수
+    public long countTimeouts(long responseTimeoutNanos) {
+        long now = System.nanoTime();
+        return pendingSends.values().stream()
+                .filter(sentAt -> now - sentAt > responseTimeoutNanos)
+                .count();
+    }
+
+    public LoadTestReport report(long elapsedNanos, long responseTimeoutNanos) {
+        long[] sorted;
+        synchronized (this) {
+            sorted = Arrays.copyOf(latencies, latencyCount);
+        }
+        Arrays.sort(sorted);
+
+        long timeouts = countTimeouts(responseTimeoutNanos);
+        double seconds = elapsedNanos / (double) TimeUnit.SECONDS.toNanos(1);
+        long sentCount = sent.sum();
+        long failed = errors.sum() + timeouts;
+
+        return LoadTestReport.builder()
+                .elapsedSeconds(seconds)
+                .sent(sentCount)
+                .acknowledged(acknowledged.sum())
+                .delivered(delivered.sum())
+                .errors(errors.sum())
+                .timeouts(timeouts)
+                .connectFailures(connectFailures.sum())
+                .sendThroughput(sentCount / seconds)
+                .deliveryThroughput(delivered.sum() / seconds)
+                .errorRate(sentCount == 0 ? 0 : failed / (double) sentCount)
+                .p50Millis(percentileMillis(sorted, 0.50))
+                .p95Millis(percentileMillis(sorted, 0.95))
+                .p99Millis(percentileMillis(sorted, 0.99))
+                .maxMillis(sorted.length == 0 ? 0 : toMillis(sorted[sorted.length - 1]))
+                .build();
+    }
+
+    private synchronized void recordLatency(long nanos) {
+        if (latencyCount == latencies.length) {
+            latencies = Arrays.copyOf(latencies, latencies.length * 2);
+        }
+        latencies[latencyCount++] = nanos;
+    }
+
+    private static double percentileMillis(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return toMillis(sorted[Math.max(index, 0)]);
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+}
@@ -0,0 +1,44 @@
+package com.familring.chatloadtest.report;
+
+import com.familring.chatloadtest.config.LoadTestProperties;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class LoadTestReport {
+    private final double elapsedSeconds;
+    private final long sent; // 전송한 프레임 수
+    private final long acknowledged; // 본인에게 브로드캐스트가 돌아온 프레임 수
+    private final long delivered; // 모든 세션이 받은 브로드캐스트 수
+    private final long errors; // ERROR 프레임, 전송 실패, 전송 오류
+    private final long timeouts; // responseTimeout 안에 돌아오지 않은 프레임 수
+    private final long connectFailures;
+    private final double sendThroughput; // 초당 전송
+    private final double deliveryThroughput; // 초당 수신 (fan-out 포함)
+    private final double errorRate; // (errors + timeouts) / sent
+    private final double p50Millis;
+    private final double p95Millis;
+    private final double p99Millis;
+    private final double maxMillis;
+
+    public boolean meetsSlo(LoadTestProperties.Slo slo) {
+        return p99Millis <= slo.getP99().toMillis() && errorRate <= slo.getMaxErrorRate();
+    }
+
+    public String format(LoadTestProperties.Slo slo) {
+        return String.format(
+                "%n===== chat load test =====%n" +
+                "elapsed            : %.1fs%n" +
+                "sent / acked       : %d / %d%n" +
+                "delivered          : %d%n" +
+                "throughput         : %.1f sends/s, %.1f deliveries/s%n" +
+                "latency p50/p95/p99: %.1f / %.1f / %.1f ms (max %.1f ms)%n" +
+                "errors / timeouts  : %d / %d (connect failures %d)%n" +
+                "error rate         : %.4f%n" +
+                "SLO (p99 <= %dms, error rate <= %.4f): %s%n",
+                elapsedSeconds, sent, acknowledged, delivered, sendThroughput, deliveryThroughput,
+                p50Millis, p95Millis, p99Millis, maxMillis, errors, timeouts, connectFailures, errorRate,
+                slo.getP99().toMillis(), slo.getMaxErrorRate(), meetsSlo(slo) ? "PASS" : "FAIL");
+    }
+}
@@ -0,0 +1,85 @@
+package com.familring.chatloadtest.setup;
+
+import com.familring.chatloadtest.config.LoadTestProperties;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+// family-service REST API로 가상 가족 생성 (이미 만들어진 가족은 그대로 사용하므로 재실행 가능)
+@Slf4j
+public class FamilySetup {
+
+    private final LoadTestProperties properties;
+    private final ObjectMapper objectMapper;
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    public FamilySetup(LoadTestProperties properties, ObjectMapper objectMapper) {
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+    }
+
+    public List<SimulatedFamily> prepare() throws IOException, InterruptedException {
+        List<SimulatedFamily> families = new ArrayList<>();
+        for (int familyIndex = 0; familyIndex < properties.getFamilies(); familyIndex++) {
+            List<Long> memberIds = new ArrayList<>();
+            for (int memberIndex = 0; memberIndex < properties.getMembersPerFamily(); memberIndex++) {
+                memberIds.add(properties.getFirstUserId() + (long) familyIndex * properties.getMembersPerFamily() + memberIndex);
+            }
+            families.add(new SimulatedFamily(prepareFamily(memberIds), memberIds));
+        }
+        log.info("[prepare] 가상 가족 {}개 준비 완료", families.size());
+        return families;
+    }
+
+    private Long prepareFamily(List<Long> memberIds) throws IOException, InterruptedException {
+        Long makerId = memberIds.get(0);
+
+        // 이전 실행에서 만든 가족이 있으면 재사용
+        JsonNode existing = call("GET", "/family", makerId, null);
+        if (existing != null) {
+            return existing.get("familyId").asLong();
+        }
+
+        JsonNode family = call("POST", "/family", makerId, null);
+        if (family == null) {
+            throw new IllegalStateException("가족 생성 실패 userId=" + makerId);
+        }
+        String familyCode = family.get("familyCode").asText();
+        for (Long memberId : memberIds.subList(1, memberIds.size())) {
+            call("POST", "/family/join", memberId, Map.of("familyCode", familyCode));
+        }
+        return family.get("familyId").asLong();
+    }
+
+    // 성공하면 BaseResponse.data, 실패하면 null
+    private JsonNode call(String method, String path, Long userId, Object body) throws IOException, InterruptedException {
+        HttpRequest.BodyPublisher publisher = body == null
+                ? HttpRequest.BodyPublishers.noBody()
+                : HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body));
+        HttpRequest request = HttpRequest.newBuilder(URI.create(properties.getHttpUrl() + path))
+                .timeout(Duration.ofSeconds(10))
+                .header("X-User-ID", String.valueOf(userId))
+                .header("Content-Type", "application/json")
+                .method(method, publisher)
+                .build();
+
+        HttpResponse<byte[]> response = httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+        if (response.statusCode() / 100 != 2) {
+            log.debug("[call] {} {} 실패 userId={}, status={}", method, path, userId, response.statusCode());
+            return null;
+        }
+        return objectMapper.readTree(response.body()).get("data");
+    }
+}
@@ -0,0 +1,13 @@
+package com.familring.chatloadtest.setup;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class SimulatedFamily {
+    private final Long roomId; // 채팅방 id == familyId
+    private final List<Long> memberIds;
+}
@@ -0,0 +1,103 @@
+package com.familring.chatloadtest.stub;
+
+import com.familring.chatloadtest.config.LoadTestProperties;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.Executors;
+
+/*
+부하 테스트용 user-service / album-service / question-service 대역 서버
+family-service는 simple discovery로 세 서비스 모두 이 서버를 바라보도록 설정 (stand-in/family-service-loadtest.yml)
+- GET  /client/users/{userId} : 가상 회원 정보
+- POST /client/users          : 가상 회원 정보 목록
+- 그 외 요청                   : 200 + 빈 BaseResponse
+ */
+@Slf4j
+public class ServiceStubServer {
+
+    private static final String[] ROLES = {"F", "M", "S", "D"};
+
+    private final LoadTestProperties properties;
+    private final ObjectMapper objectMapper;
+    private HttpServer server;
+
+    public ServiceStubServer(LoadTestProperties properties, ObjectMapper objectMapper) {
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+    }
+
+    public void start() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(properties.getStub().getPort()), 0);
+        server.createContext("/", this::handle);
+        server.setExecutor(Executors.newFixedThreadPool(8));
+        server.start();
+        log.info("[start] 서비스 대역 서버 시작 port={}", properties.getStub().getPort());
+    }
+
+    public void stop() {
+        if (server != null) {
+            server.stop(0);
+        }
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try {
+            String path = exchange.getRequestURI().getPath();
+            String method = exchange.getRequestMethod();
+
+            Object data = null;
+            if ("GET".equals(method) && path.startsWith("/client/users/")) {
+                data = user(Long.parseLong(path.substring("/client/users/".length())));
+            } else if ("POST".equals(method) && path.equals("/client/users")) {
+                List<Long> userIds = objectMapper.readValue(exchange.getRequestBody(), new TypeReference<List<Long>>() {});
+                List<Map<String, Object>> users = new ArrayList<>();
+                userIds.forEach(userId -> users.add(user(userId)));
+                data = users;
+            }
+
+            Map<String, Object> body = new LinkedHashMap<>();
+            body.put("statusCode", 200);
+            body.put("message", "stub");
+            body.put("data", data);
+            write(exchange, 200, objectMapper.writeValueAsBytes(body));
+        } catch (Exception e) {
+            log.warn("[handle] 대역 서버 요청 처리 실패 uri={}", exchange.getRequestURI(), e);
+            write(exchange, 500, "{}".getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    // 가족 안에서의 순서대로 아빠, 엄마, 아들, 딸 역할 (가족 가입 시 역할 중복 검사 통과)
+    private Map<String, Object> user(Long userId) {
+        long index = userId - properties.getFirstUserId();
+        int memberIndex = (int) Math.floorMod(index, (long) properties.getMembersPerFamily());
+
+        Map<String, Object> user = new LinkedHashMap<>();
+        user.put("userId", userId);
+        user.put("userKakaoId", "load-" + userId);
+        user.put("userNickname", "load-" + userId);
+        user.put("userBirthDate", "2000-01-01");
+        user.put("userZodiacSign", "");
+        user.put("userRole", memberIndex < 2 ? ROLES[memberIndex] : ROLES[2 + memberIndex % 2]);
+        user.put("userFace", "");
+        user.put("userColor", "0xFFFFFFFF");
+        user.put("userEmotion", "");
+        return user;
+    }
+
+    private void write(HttpExchange exchange, int status, byte[] body) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+}
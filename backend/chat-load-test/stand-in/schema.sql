@@ -0,0 +1,15 @@
+-- family-service가 사용하는 테이블만 (FamilyMapper.xml 기준)
+CREATE TABLE IF NOT EXISTS family (
+    family_id                   BIGINT AUTO_INCREMENT PRIMARY KEY,
+    family_code                 VARCHAR(20) NOT NULL UNIQUE,
+    family_count                INT         NOT NULL DEFAULT 1,
+    family_communication_status INT         NOT NULL DEFAULT 0,
+    family_created_at           DATETIME    NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE TABLE IF NOT EXISTS family_user (
+    family_id BIGINT NOT NULL,
+    user_id   BIGINT NOT NULL,
+    PRIMARY KEY (family_id, user_id),
+    INDEX idx_family_user_user_id (user_id)
+);
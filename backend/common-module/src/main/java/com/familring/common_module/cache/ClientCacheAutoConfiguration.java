@@ -0,0 +1,43 @@
+package com.familring.common_module.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.cache.CacheAutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.interceptor.CacheAspectSupport;
+import org.springframework.context.annotation.Bean;
+
+import java.time.Duration;
+
+// Feign Client의 @Cacheable(cacheManager = ClientCacheNames.CACHE_MANAGER) 응답을 짧은 TTL로 캐시
+// 한 요청 안에서, 그리고 TTL 동안 같은 가족 정보를 다시 조회하지 않도록 함
+// @EnableCaching을 선언한 서비스에서만, 다른 CacheManager가 없을 때 생성
+@AutoConfiguration(before = CacheAutoConfiguration.class)
+@ConditionalOnClass(name = {"org.springframework.cloud.openfeign.FeignClient", "org.springframework.cache.caffeine.CaffeineCacheManager"})
+@ConditionalOnBean(CacheAspectSupport.class)
+@ConditionalOnMissingBean(CacheManager.class)
+public class ClientCacheAutoConfiguration {
+
+    @Bean(name = ClientCacheNames.CACHE_MANAGER)
+    public CaffeineCacheManager clientCacheManager(
+            @Value("${familring.client-cache.family-ttl:PT10S}") Duration familyTtl,
+            @Value("${familring.client-cache.max-size:10000}") long maxSize) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        cacheManager.setAllowNullValues(false);
+
+        Caffeine<Object, Object> familyCache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(familyTtl)
+                .recordStats();
+        cacheManager.registerCustomCache(ClientCacheNames.FAMILY_INFO, familyCache.build());
+        cacheManager.registerCustomCache(ClientCacheNames.FAMILY_MEMBERS, familyCache.build());
+        cacheManager.registerCustomCache(ClientCacheNames.FAMILY_MEMBERS_BY_FAMILY_ID, familyCache.build());
+
+        return cacheManager;
+    }
+}
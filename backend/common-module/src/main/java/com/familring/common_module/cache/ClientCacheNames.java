@@ -0,0 +1,15 @@
+package com.familring.common_module.cache;
+
+// 서비스 간 Feign 호출 응답 캐시 이름
+public final class ClientCacheNames {
+
+    public static final String CACHE_MANAGER = "clientCacheManager";
+
+    // family-service
+    public static final String FAMILY_INFO = "familyInfo"; // userId -> 가족 정보
+    public static final String FAMILY_MEMBERS = "familyMembers"; // userId -> 가족 구성원
+    public static final String FAMILY_MEMBERS_BY_FAMILY_ID = "familyMembersByFamilyId"; // familyId -> 가족 구성원
+
+    private ClientCacheNames() {
+    }
+}
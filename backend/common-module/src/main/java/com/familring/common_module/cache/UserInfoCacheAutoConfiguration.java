@@ -0,0 +1,46 @@
+package com.familring.common_module.cache;
+
+import com.familring.common_module.cache.event.UserInfoChangedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.cloud.bus.jackson.RemoteApplicationEventScan;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
+
+import java.time.Duration;
+
+// Feign으로 user-service를 호출하는 서비스의 회원 정보 near-cache
+// Spring Cloud Bus가 있으면 user-service의 UserInfoChangedEvent를 받아 캐시에서 제거
+@AutoConfiguration
+@ConditionalOnClass(name = "org.springframework.cloud.openfeign.FeignClient")
+public class UserInfoCacheAutoConfiguration {
+
+    @Bean
+    public UserInfoNearCacheFactory userInfoNearCacheFactory(
+            @Value("${familring.user-cache.ttl:PT30S}") Duration ttl,
+            @Value("${familring.user-cache.max-size:10000}") long maxSize,
+            ObjectProvider<MeterRegistry> meterRegistry) {
+        return new UserInfoNearCacheFactory(ttl, maxSize, meterRegistry.getIfAvailable());
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(name = "org.springframework.cloud.bus.event.RemoteApplicationEvent")
+    @RemoteApplicationEventScan(basePackageClasses = UserInfoChangedEvent.class)
+    static class BusInvalidationConfiguration {
+
+        private final UserInfoNearCacheFactory userInfoNearCacheFactory;
+
+        BusInvalidationConfiguration(UserInfoNearCacheFactory userInfoNearCacheFactory) {
+            this.userInfoNearCacheFactory = userInfoNearCacheFactory;
+        }
+
+        @EventListener
+        public void handleUserInfoChanged(UserInfoChangedEvent event) {
+            userInfoNearCacheFactory.evict(event.getUserIds());
+        }
+    }
+}
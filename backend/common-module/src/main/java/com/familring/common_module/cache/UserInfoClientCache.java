@@ -0,0 +1,39 @@
+package com.familring.common_module.cache;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/*
+서비스별 UserInfoCache의 공통 부분 (user-service 회원 정보 near-cache 조회)
+서비스는 자기 UserInfoResponse 타입으로 상속해서 회원 조회 방법(getAllUser, 필드 묶음)과 id 추출만 넘김
+ */
+public abstract class UserInfoClientCache<T> {
+
+    private final UserInfoNearCache<T> cache;
+
+    protected UserInfoClientCache(UserInfoNearCacheFactory userInfoNearCacheFactory,
+                                  Function<List<Long>, List<T>> batchLoader, Function<T, Long> idExtractor) {
+        this.cache = userInfoNearCacheFactory.create("userInfo", batchLoader, idExtractor);
+    }
+
+    // 단건 조회 - 캐시에 없으면 user-service 호출 (없는 회원이면 null)
+    public T getUser(Long userId) {
+        return cache.get(userId);
+    }
+
+    // 다건 조회 - 캐시에 없는 userId만 모아 getAllUser 한 번으로 조회
+    public Map<Long, T> getUsers(Collection<Long> userIds) {
+        return cache.getAllAsMap(userIds);
+    }
+
+    // 다건 조회 - 요청한 userId 순서대로 (없는 회원은 제외)
+    public List<T> getAllUser(List<Long> userIds) {
+        return cache.getAll(userIds);
+    }
+
+    public void evict(Collection<Long> userIds) {
+        cache.evict(userIds);
+    }
+}
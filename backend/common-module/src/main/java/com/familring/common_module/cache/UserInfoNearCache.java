@@ -0,0 +1,88 @@
+package com.familring.common_module.cache;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+
+/*
+user-service 회원 정보 조회 결과를 짧은 TTL로 보관하는 near-cache (UserInfoNearCacheFactory로 생성)
+- 캐시에 없는 userId만 모아 batchLoader(getAllUser) 한 번으로 조회
+- 같은 userId를 동시에 조회하면 먼저 시작한 조회 하나의 결과를 함께 사용 (single-flight)
+- 회원 정보가 바뀌면 UserInfoChangedEvent로 제거되고, 이벤트를 받지 못해도 TTL이 지나면 다시 조회
+ */
+public class UserInfoNearCache<T> {
+
+    private final Function<List<Long>, List<T>> batchLoader;
+    private final Function<T, Long> idExtractor;
+    private final AsyncCache<Long, T> cache;
+
+    UserInfoNearCache(Function<List<Long>, List<T>> batchLoader, Function<T, Long> idExtractor, Duration ttl, long maxSize) {
+        this.batchLoader = batchLoader;
+        this.idExtractor = idExtractor;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .buildAsync();
+    }
+
+    // 단건 조회 - 없는 회원이면 null
+    public T get(Long userId) {
+        return getAllAsMap(List.of(userId)).get(userId);
+    }
+
+    // 다건 조회 - 요청한 userId 순서대로 (없는 회원은 제외)
+    public List<T> getAll(List<Long> userIds) {
+        Map<Long, T> users = getAllAsMap(userIds);
+        List<T> result = new ArrayList<>(userIds.size());
+        for (Long userId : userIds) {
+            T user = users.get(userId);
+            if (user != null) {
+                result.add(user);
+            }
+        }
+        return result;
+    }
+
+    // 다건 조회 - userId -> 회원 정보
+    public Map<Long, T> getAllAsMap(Collection<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return Map.of();
+        }
+
+        // 호출한 쓰레드에서 바로 조회 - 다른 쓰레드가 조회 중인 userId는 그 결과를 기다림
+        try {
+            return cache.getAll(new HashSet<>(userIds), (missing, executor) -> CompletableFuture.completedFuture(load(missing)))
+                    .join();
+        } catch (CompletionException e) {
+            // Feign 예외 등 조회 중 발생한 예외를 그대로 전달
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    public void evict(Collection<Long> userIds) {
+        cache.synchronous().invalidateAll(userIds);
+    }
+
+    Cache<Long, T> synchronous() {
+        return cache.synchronous();
+    }
+
+    private Map<Long, T> load(Set<? extends Long> userIds) {
+        List<T> users = batchLoader.apply(new ArrayList<>(userIds));
+        Map<Long, T> loaded = new HashMap<>();
+        if (users != null) {
+            users.forEach(user -> loaded.putIfAbsent(idExtractor.apply(user), user));
+        }
+        return loaded;
+    }
+}
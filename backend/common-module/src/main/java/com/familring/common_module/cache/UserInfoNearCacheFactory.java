@@ -0,0 +1,39 @@
+package com.familring.common_module.cache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Function;
+
+// 서비스마다 자기 UserInfoResponse 타입으로 near-cache를 만들고, 변경 이벤트는 만든 캐시 전체에 적용
+public class UserInfoNearCacheFactory {
+
+    private final Duration ttl;
+    private final long maxSize;
+    private final MeterRegistry meterRegistry;
+    private final List<UserInfoNearCache<?>> caches = new CopyOnWriteArrayList<>();
+
+    public UserInfoNearCacheFactory(Duration ttl, long maxSize, MeterRegistry meterRegistry) {
+        this.ttl = ttl;
+        this.maxSize = maxSize;
+        this.meterRegistry = meterRegistry;
+    }
+
+    // name은 actuator cache.* 지표의 cache 태그
+    public <T> UserInfoNearCache<T> create(String name, Function<List<Long>, List<T>> batchLoader, Function<T, Long> idExtractor) {
+        UserInfoNearCache<T> cache = new UserInfoNearCache<>(batchLoader, idExtractor, ttl, maxSize);
+        if (meterRegistry != null) {
+            CaffeineCacheMetrics.monitor(meterRegistry, cache.synchronous(), name);
+        }
+        caches.add(cache);
+        return cache;
+    }
+
+    public void evict(Collection<Long> userIds) {
+        caches.forEach(cache -> cache.evict(userIds));
+    }
+}
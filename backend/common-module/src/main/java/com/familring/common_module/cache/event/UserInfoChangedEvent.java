@@ -0,0 +1,19 @@
+package com.familring.common_module.cache.event;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.cloud.bus.event.RemoteApplicationEvent;
+
+import java.util.List;
+
+// 회원 정보 변경 이벤트 - user-service가 Spring Cloud Bus로 전파, 받은 서비스는 회원 정보 캐시에서 제거
+@Getter
+@NoArgsConstructor
+public class UserInfoChangedEvent extends RemoteApplicationEvent {
+    private List<Long> userIds;
+
+    public UserInfoChangedEvent(Object source, String originService, String destinationService, List<Long> userIds) {
+        super(source, originService, DEFAULT_DESTINATION_FACTORY.getDestination(destinationService));
+        this.userIds = userIds;
+    }
+}
@@ -0,0 +1,38 @@
+package com.familring.common_module.dto;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Arrays;
+
+/*
+user-service 회원 조회(/client/users) 응답 필드 묶음 (요청 파라미터 fields)
+- profile-lite : userId, userNickname, userZodiacSign, userColor, userFace (화면 표시용)
+- push-target  : userId, userNickname, userFcmToken (알림 전송용)
+- full         : UserInfoResponse 전체 (기본값)
+ */
+@Getter
+@RequiredArgsConstructor
+public enum UserFieldSet {
+    PROFILE_LITE("profile-lite"),
+    PUSH_TARGET("push-target"),
+    FULL("full");
+
+    private final String value;
+
+    // "profile-lite", "PROFILE_LITE" 모두 허용, 없거나 모르는 값이면 FULL
+    public static UserFieldSet from(String value) {
+        if (value == null) {
+            return FULL;
+        }
+        return Arrays.stream(values())
+                .filter(fields -> fields.value.equalsIgnoreCase(value) || fields.name().equalsIgnoreCase(value))
+                .findFirst()
+                .orElse(FULL);
+    }
+
+    @Override
+    public String toString() {
+        return value;
+    }
+}
@@ -0,0 +1,129 @@
+package com.familring.common_module.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class UserInfoNearCacheTest {
+
+    private final UserInfoNearCacheFactory factory = new UserInfoNearCacheFactory(Duration.ofMinutes(1), 100, null);
+
+    @Test
+    @DisplayName("getAll - 캐시에 없는 userId만 모아 한 번에 조회")
+    void loadOnlyMissingUsers() {
+        List<List<Long>> calls = new CopyOnWriteArrayList<>();
+        UserInfoNearCache<User> cache = factory.create("test", recording(calls), User::id);
+
+        cache.getAll(List.of(1L, 2L));
+        cache.getAll(List.of(1L, 2L, 3L, 4L));
+
+        assertThat(calls).hasSize(2);
+        assertThat(calls.get(0)).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(calls.get(1)).containsExactlyInAnyOrder(3L, 4L);
+    }
+
+    @Test
+    @DisplayName("getAll - 요청한 userId 순서대로, 없는 회원은 제외")
+    void keepRequestOrderAndSkipMissing() {
+        UserInfoNearCache<User> cache = factory.create("test",
+                userIds -> userIds.stream().filter(userId -> userId != 2L).map(User::new).toList(), User::id);
+
+        assertThat(cache.getAll(List.of(3L, 2L, 1L))).extracting(User::id).containsExactly(3L, 1L);
+        assertThat(cache.get(2L)).isNull();
+    }
+
+    @Test
+    @DisplayName("single-flight - 같은 userId를 동시에 조회하면 user-service 조회는 한 번")
+    void shareInFlightLoad() throws Exception {
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        UserInfoNearCache<User> cache = factory.create("test", userIds -> {
+            loads.incrementAndGet();
+            loading.countDown();
+            await(release);
+            return userIds.stream().map(User::new).toList();
+        }, User::id);
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            Future<User> first = executor.submit(() -> cache.get(1L));
+            assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+
+            List<Future<User>> others = new ArrayList<>();
+            for (int i = 0; i < 3; i++) {
+                others.add(executor.submit(() -> cache.get(1L)));
+            }
+            Thread.sleep(100); // 나머지 조회가 진행 중인 조회를 기다리는 상태가 되도록
+            release.countDown();
+
+            assertThat(first.get(5, TimeUnit.SECONDS).id()).isEqualTo(1L);
+            for (Future<User> other : others) {
+                assertThat(other.get(5, TimeUnit.SECONDS).id()).isEqualTo(1L);
+            }
+            assertThat(loads).hasValue(1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("evict - 제거한 회원은 다음 조회 때 다시 조회, 팩토리 evict는 만든 캐시 전체에 적용")
+    void evict() {
+        List<List<Long>> firstCalls = new CopyOnWriteArrayList<>();
+        List<List<Long>> secondCalls = new CopyOnWriteArrayList<>();
+        UserInfoNearCache<User> first = factory.create("first", recording(firstCalls), User::id);
+        UserInfoNearCache<User> second = factory.create("second", recording(secondCalls), User::id);
+        first.getAll(List.of(1L, 2L));
+        second.getAll(List.of(1L, 2L));
+
+        factory.evict(List.of(1L));
+        first.getAll(List.of(1L, 2L));
+        second.getAll(List.of(1L, 2L));
+
+        assertThat(firstCalls.get(1)).containsExactly(1L);
+        assertThat(secondCalls.get(1)).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("조회 중 발생한 예외는 감싸지 않고 그대로 전달하고 캐시에 남기지 않음")
+    void propagateLoadFailure() {
+        AtomicInteger loads = new AtomicInteger();
+        UserInfoNearCache<User> cache = factory.create("test", userIds -> {
+            if (loads.incrementAndGet() == 1) {
+                throw new IllegalStateException("user-service 응답 없음");
+            }
+            return userIds.stream().map(User::new).toList();
+        }, User::id);
+
+        assertThatThrownBy(() -> cache.get(1L)).isInstanceOf(IllegalStateException.class);
+        assertThat(cache.get(1L).id()).isEqualTo(1L);
+    }
+
+    private static Function<List<Long>, List<User>> recording(List<List<Long>> calls) {
+        return userIds -> {
+            calls.add(userIds);
+            return userIds.stream().map(User::new).toList();
+        };
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private record User(Long id) {
+    }
+}
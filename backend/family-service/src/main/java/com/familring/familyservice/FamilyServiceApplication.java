@@ -3,6 +3,7 @@ package com.familring.familyservice;
 import org.mybatis.spring.annotation.MapperScan;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.cloud.bus.jackson.RemoteApplicationEventScan;
 import org.springframework.cloud.client.discovery.EnableDiscoveryClient;
 import org.springframework.cloud.openfeign.EnableFeignClients;
 import org.springframework.data.mongodb.repository.config.EnableMongoRepositories;
@@ -14,6 +15,7 @@ import org.springframework.scheduling.annotation.EnableAsync;
 @EnableMongoRepositories(basePackages = "com.familring.familyservice.model.repository")
 @EnableAsync
 @MapperScan("com.familring.familyservice.model.dao")
+@RemoteApplicationEventScan(basePackages = "com.familring.familyservice.service.family.event")
 public class FamilyServiceApplication {
 
 	public static void main(String[] args) {
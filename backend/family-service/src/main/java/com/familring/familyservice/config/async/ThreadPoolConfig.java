@@ -0,0 +1,95 @@
+package com.familring.familyservice.config.async;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+
+@Configuration
+public class ThreadPoolConfig {
+
+    /*
+    채팅 저장(write-behind) 전용 쓰레드 풀
+    방마다 동시에 하나의 작업만 실행되므로 CORE_POOL_SIZE 이상의 방은 큐에서 대기
+    -> 큐가 가득찰 경우 호출한 쓰레드에서 그 방의 대기열을 순서대로 저장 (CallerRunsPolicy)
+     */
+    private static final int CORE_POOL_SIZE = 4; // 동시에 실행 할 쓰레드수
+    private static final int MAX_POOL_SIZE = 8; // 쓰레드 풀이 사용하는 최대 쓰레드 수
+    private static final int QUEUE_CAPACITY = 1000; // CORE POOL SIZE가 가득 찼을 경우 요청 대기시키는 큐의 개수
+    private static final boolean WAIT_TASK_COMPLETE = true;  // 어플리케이션이 종료될 때 큐에 대기중인 작업이 완료될 때까지 기다릴지 여부
+    private static final int AWAIT_TERMINATION_SECONDS = 30; // 종료 시 대기할 최대 시간
+
+    @Bean(name = "chatPersistenceExecutor")
+    public Executor chatPersistenceExecutor() {
+        ThreadPoolTaskExecutor taskExecutor = new ThreadPoolTaskExecutor();
+        taskExecutor.setCorePoolSize(CORE_POOL_SIZE);
+        taskExecutor.setMaxPoolSize(MAX_POOL_SIZE);
+        taskExecutor.setQueueCapacity(QUEUE_CAPACITY);
+        taskExecutor.setThreadNamePrefix("chat-persistence-");
+        taskExecutor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        taskExecutor.setWaitForTasksToCompleteOnShutdown(WAIT_TASK_COMPLETE);
+        taskExecutor.setAwaitTerminationSeconds(AWAIT_TERMINATION_SECONDS);
+        taskExecutor.initialize();
+        return taskExecutor;
+    }
+
+    /*
+    STOMP 수신 프레임 처리 쓰레드 풀 (RoomActorExecutor가 채팅방 단위 메일박스를 이 풀 위에서 실행)
+    큐가 가득 차면 웹소켓 수신 쓰레드에서 직접 처리해서 자연스럽게 수신 속도를 늦춤
+     */
+    @Bean(name = "clientInboundExecutor")
+    public Executor clientInboundExecutor() {
+        int processors = Runtime.getRuntime().availableProcessors();
+        ThreadPoolTaskExecutor taskExecutor = new ThreadPoolTaskExecutor();
+        taskExecutor.setCorePoolSize(processors * 2);
+        taskExecutor.setMaxPoolSize(processors * 2);
+        taskExecutor.setQueueCapacity(QUEUE_CAPACITY);
+        taskExecutor.setThreadNamePrefix("client-inbound-");
+        taskExecutor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        taskExecutor.setWaitForTasksToCompleteOnShutdown(WAIT_TASK_COMPLETE);
+        taskExecutor.setAwaitTerminationSeconds(AWAIT_TERMINATION_SECONDS);
+        taskExecutor.initialize();
+        return taskExecutor;
+    }
+
+    /*
+    Redis pub/sub으로 받은 /room 브로드캐스트 전달 쓰레드 (RedisMessageListenerContainer)
+    받은 순서대로 simple broker에 넘기도록 쓰레드 하나로 처리 (지정하지 않으면 메시지마다 새 쓰레드 생성)
+     */
+    @Bean(name = "roomBroadcastExecutor")
+    public Executor roomBroadcastExecutor() {
+        ThreadPoolTaskExecutor taskExecutor = new ThreadPoolTaskExecutor();
+        taskExecutor.setCorePoolSize(1);
+        taskExecutor.setMaxPoolSize(1);
+        taskExecutor.setThreadNamePrefix("room-broadcast-");
+        taskExecutor.setWaitForTasksToCompleteOnShutdown(WAIT_TASK_COMPLETE);
+        taskExecutor.setAwaitTerminationSeconds(AWAIT_TERMINATION_SECONDS);
+        taskExecutor.initialize();
+        return taskExecutor;
+    }
+
+    // 읽음 상태 변경을 방 단위로 모아서 전송하는 스케줄러
+    @Bean(name = "readStatusScheduler")
+    public ThreadPoolTaskScheduler readStatusScheduler() {
+        ThreadPoolTaskScheduler taskScheduler = new ThreadPoolTaskScheduler();
+        taskScheduler.setPoolSize(2);
+        taskScheduler.setThreadNamePrefix("read-status-");
+        taskScheduler.setWaitForTasksToCompleteOnShutdown(WAIT_TASK_COMPLETE);
+        taskScheduler.setAwaitTerminationSeconds(AWAIT_TERMINATION_SECONDS);
+        taskScheduler.initialize();
+        return taskScheduler;
+    }
+
+    // STOMP heartbeat 송수신과 접속자 임대 관리 스케줄러
+    @Bean(name = "presenceScheduler")
+    public ThreadPoolTaskScheduler presenceScheduler() {
+        ThreadPoolTaskScheduler taskScheduler = new ThreadPoolTaskScheduler();
+        taskScheduler.setPoolSize(2);
+        taskScheduler.setThreadNamePrefix("presence-");
+        taskScheduler.initialize();
+        return taskScheduler;
+    }
+}
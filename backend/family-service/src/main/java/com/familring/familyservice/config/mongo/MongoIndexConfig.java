@@ -0,0 +1,55 @@
+package com.familring.familyservice.config.mongo;
+
+import com.familring.familyservice.model.dto.chat.Chat;
+import com.familring.familyservice.model.dto.chat.ChatBucket;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexInfo;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.index.IndexResolver;
+import org.springframework.data.mongodb.core.index.MongoPersistentEntityIndexResolver;
+
+import java.util.List;
+import java.util.Map;
+
+@Configuration
+@RequiredArgsConstructor
+@Log4j2
+public class MongoIndexConfig {
+
+    // 애플리케이션 시작 시 인덱스를 생성할 컬렉션 (auto-index-creation은 기본 비활성화)
+    private static final List<Class<?>> INDEXED_DOCUMENTS = List.of(Chat.class, ChatBucket.class);
+
+    // 새 인덱스로 대체된 인덱스 (chats.roomId_createdAt -> roomId_createdAt_id)
+    private static final Map<Class<?>, List<String>> REPLACED_INDEXES = Map.of(Chat.class, List.of("roomId_createdAt"));
+
+    private final MongoTemplate mongoTemplate;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void ensureIndexes() {
+        IndexResolver resolver = new MongoPersistentEntityIndexResolver(mongoTemplate.getConverter().getMappingContext());
+
+        for (Class<?> document : INDEXED_DOCUMENTS) {
+            IndexOperations indexOps = mongoTemplate.indexOps(document);
+            resolver.resolveIndexFor(document).forEach(indexOps::ensureIndex);
+            dropReplacedIndexes(document, indexOps);
+            log.info("[ensureIndexes] {} 인덱스 생성 완료", document.getSimpleName());
+        }
+    }
+
+    // 새 인덱스를 만든 뒤에 지워서 인덱스 없이 조회되는 구간이 없도록 함
+    private void dropReplacedIndexes(Class<?> document, IndexOperations indexOps) {
+        List<String> replaced = REPLACED_INDEXES.getOrDefault(document, List.of());
+        indexOps.getIndexInfo().stream()
+                .map(IndexInfo::getName)
+                .filter(replaced::contains)
+                .forEach(name -> {
+                    indexOps.dropIndex(name);
+                    log.info("[dropReplacedIndexes] {} 인덱스 {} 삭제", document.getSimpleName(), name);
+                });
+    }
+}
@@ -1,76 +1,160 @@
 package com.familring.familyservice.config.redis;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.Cursor;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
 
-import java.util.Set;
+import java.time.Duration;
+import java.util.*;
+import java.util.function.Consumer;
 
 @Service
 @RequiredArgsConstructor
 public class RedisUtil {
+
+    // SADD 후 SCARD
+    private static final RedisScript<Long> ADD_AND_COUNT_SCRIPT = RedisScript.of(
+            "redis.call('SADD', KEYS[1], ARGV[1]) " +
+            "return redis.call('SCARD', KEYS[1])", Long.class);
+
+    // SREM 후 SCARD, 비어 있으면 DEL
+    private static final RedisScript<Long> REMOVE_AND_CLEANUP_SCRIPT = RedisScript.of(
+            "redis.call('SREM', KEYS[1], ARGV[1]) " +
+            "local size = redis.call('SCARD', KEYS[1]) " +
+            "if size == 0 then redis.call('DEL', KEYS[1]) end " +
+            "return size", Long.class);
+
     private final RedisTemplate<String, String> redisTemplate;
+    private final MeterRegistry meterRegistry;
 
     public void insertList(String key, String value) {
+        roundTrip("insertList");
         redisTemplate.opsForList().rightPush(key, value);
     }
 
     public Long getListSize(String key) {
+        roundTrip("getListSize");
         return redisTemplate.opsForList().size(key);
     }
 
     public Long insertSet(String key, String value) {
-        redisTemplate.opsForSet().add(key, value);
-        return redisTemplate.opsForSet().size(key);
+        roundTrip("insertSet");
+        return redisTemplate.execute(ADD_AND_COUNT_SCRIPT, List.of(key), value);
     }
 
     public Long getSetSize(String key) {
+        // 비어 있는 Set은 Redis에 존재하지 않으므로 SCARD만으로 충분
+        roundTrip("getSetSize");
         Long size = redisTemplate.opsForSet().size(key);
-        if (size == null || size == 0) {
-            redisTemplate.delete(key);
-            return 0L;
-        }
-        return size;
+        return size == null ? 0L : size;
     }
 
     public Boolean containSet(String key, String value) {
+        roundTrip("containSet");
         return redisTemplate.opsForSet().isMember(key, value);
     }
 
     public Long deleteSet(String key, String value) {
-        redisTemplate.opsForSet().remove(key, value);
-        Long size = redisTemplate.opsForSet().size(key);
-        if (size == null || size == 0) {
-            redisTemplate.delete(key);
-            return 0L;
-        }
-        return size;
+        roundTrip("deleteSet");
+        return redisTemplate.execute(REMOVE_AND_CLEANUP_SCRIPT, List.of(key), value);
     }
 
     public void setString(String key, String value) {
+        roundTrip("setString");
         redisTemplate.opsForValue().set(key, value);
     }
 
+    public void setString(String key, String value, Duration timeout) {
+        roundTrip("setString");
+        redisTemplate.opsForValue().set(key, value, timeout);
+    }
+
+    public Boolean setStringIfAbsent(String key, String value, Duration timeout) {
+        roundTrip("setStringIfAbsent");
+        return redisTemplate.opsForValue().setIfAbsent(key, value, timeout);
+    }
+
     public String getString(String key) {
+        roundTrip("getString");
         return redisTemplate.opsForValue().get(key);
     }
 
     public void deleteString(String key) {
+        roundTrip("deleteString");
         redisTemplate.delete(key);
     }
 
     // 숫자 형태의 문자열 값을 증가시키기
     public Long incrementString(String key) {
+        roundTrip("incrementString");
         return redisTemplate.opsForValue().increment(key);
     }
 
     // 숫자 형태의 문자열 값을 감소시키기
     public Long decrementString(String key) {
+        roundTrip("decrementString");
         return redisTemplate.opsForValue().decrement(key);
     }
 
     public Set<String> getSetMembers(String key) {
+        roundTrip("getSetMembers");
         return redisTemplate.opsForSet().members(key);
     }
-}
 
+    public void setHash(String key, String field, String value) {
+        roundTrip("setHash");
+        redisTemplate.opsForHash().put(key, field, value);
+    }
+
+    public String getHash(String key, String field) {
+        roundTrip("getHash");
+        Object value = redisTemplate.opsForHash().get(key, field);
+        return value == null ? null : value.toString();
+    }
+
+    public Map<String, String> getHashEntries(String key) {
+        roundTrip("getHashEntries");
+        Map<String, String> entries = new HashMap<>();
+        redisTemplate.opsForHash().entries(key)
+                .forEach((field, value) -> entries.put(field.toString(), value.toString()));
+        return entries;
+    }
+
+    // 여러 명령을 묶은 Lua 스크립트 실행 (operation 이름으로 왕복 횟수 집계)
+    public <T> T executeScript(String operation, RedisScript<T> script, List<String> keys, String... args) {
+        roundTrip(operation);
+        return redisTemplate.execute(script, keys, (Object[]) args);
+    }
+
+    // KEYS 대신 SCAN으로 패턴에 맞는 키를 batchSize개씩 나눠서 처리 (전체 키를 메모리에 올리지 않음)
+    public void scanKeys(String pattern, int batchSize, Consumer<List<String>> consumer) {
+        ScanOptions options = ScanOptions.scanOptions().match(pattern).count(batchSize).build();
+        List<String> batch = new ArrayList<>(batchSize);
+        try (Cursor<String> cursor = redisTemplate.scan(options)) {
+            while (cursor.hasNext()) {
+                batch.add(cursor.next());
+                if (batch.size() >= batchSize) {
+                    consumer.accept(batch);
+                    batch = new ArrayList<>(batchSize);
+                }
+            }
+        }
+        if (!batch.isEmpty()) {
+            consumer.accept(batch);
+        }
+    }
+
+    public Long unlinkKeys(Collection<String> keys) {
+        roundTrip("unlinkKeys");
+        return redisTemplate.unlink(keys);
+    }
+
+    // Redis 왕복 횟수 메트릭 (redis_round_trips_total{operation=...})
+    private void roundTrip(String operation) {
+        meterRegistry.counter("redis.round.trips", "operation", operation).increment();
+    }
+}
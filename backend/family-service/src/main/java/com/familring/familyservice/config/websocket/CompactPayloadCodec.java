@@ -0,0 +1,211 @@
+package com.familring.familyservice.config.websocket;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompDecoder;
+import org.springframework.messaging.simp.stomp.StompEncoder;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.WebSocketHandlerDecorator;
+import org.springframework.web.socket.handler.WebSocketHandlerDecoratorFactory;
+import org.springframework.web.socket.handler.WebSocketSessionDecorator;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/*
+채팅 브로드캐스트 압축 모드 (CONNECT 헤더 X-Payload-Mode: compact 로 요청, CONNECTED 헤더 payload-mode: compact 로 응답)
+/room/{roomId} 로 가는 ChatResponse를 세션마다 다음과 같이 줄여서 전송
+- sender : 세션에 처음 보내는 발신자(또는 프로필이 바뀐 발신자)만 포함, 이후에는 senderId로 참조
+- vote   : 세션에 처음 보내는 투표만 전체 포함, 이후에는 voteDelta (voteId + 바뀐 필드만)
+- null, 빈 문자열, 빈 객체, false 필드 생략
+소켓에 쓰는 시점(세션 데코레이터)에 변환하므로 세션 상태가 클라이언트가 실제로 받은 순서와 일치
+(세션 쓰기는 ConcurrentWebSocketSessionDecorator가 한 번에 하나씩만 실행)
+ */
+@Component
+@Log4j2
+public class CompactPayloadCodec implements WebSocketHandlerDecoratorFactory {
+
+    public static final String PAYLOAD_MODE_HEADER = "X-Payload-Mode";
+    private static final String COMPACT = "compact";
+    private static final Pattern ROOM_DESTINATION = Pattern.compile("^/room/\\d+$");
+    private static final int MAX_VOTES_PER_SESSION = 32;
+
+    private final ObjectMapper objectMapper;
+    private final StompDecoder stompDecoder = new StompDecoder();
+    private final StompEncoder stompEncoder = new StompEncoder();
+
+    private final Map<String, CompactSession> sessions = new ConcurrentHashMap<>();
+    private final Counter originalBytes;
+    private final Counter compactBytes;
+
+    public CompactPayloadCodec(ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.objectMapper = objectMapper;
+        this.originalBytes = Counter.builder("chat.payload.bytes")
+                .tag("mode", "original")
+                .description("압축 모드 세션에 보낼 채팅 본문의 원래 크기")
+                .register(meterRegistry);
+        this.compactBytes = Counter.builder("chat.payload.bytes")
+                .tag("mode", COMPACT)
+                .description("압축 모드 세션에 실제로 보낸 채팅 본문 크기")
+                .register(meterRegistry);
+    }
+
+    // CONNECT 프레임 처리 시 호출 (CONNECTED 프레임보다 먼저 실행됨)
+    public void negotiate(String sessionId, String payloadMode) {
+        CompactSession session = sessions.get(sessionId);
+        if (session != null && COMPACT.equalsIgnoreCase(payloadMode)) {
+            session.compact = true;
+            log.info("[negotiate] 압축 모드 세션 sessionId={}", sessionId);
+        }
+    }
+
+    @Override
+    public WebSocketHandler decorate(WebSocketHandler handler) {
+        return new WebSocketHandlerDecorator(handler) {
+            @Override
+            public void afterConnectionEstablished(WebSocketSession session) throws Exception {
+                CompactSession compactSession = new CompactSession(session);
+                sessions.put(session.getId(), compactSession);
+                super.afterConnectionEstablished(compactSession);
+            }
+
+            @Override
+            public void afterConnectionClosed(WebSocketSession session, CloseStatus closeStatus) throws Exception {
+                sessions.remove(session.getId());
+                super.afterConnectionClosed(session, closeStatus);
+            }
+        };
+    }
+
+    private class CompactSession extends WebSocketSessionDecorator {
+        private volatile boolean compact;
+
+        // 아래 상태는 세션 쓰기 쓰레드에서만 접근
+        private final Map<Long, Integer> sentProfiles = new HashMap<>(); // userId -> 보낸 프로필 hash
+        private final Map<String, JsonNode> sentVotes = new LinkedHashMap<>(16, 0.75f, true) { // voteId -> 마지막으로 보낸 투표
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, JsonNode> eldest) {
+                return size() > MAX_VOTES_PER_SESSION;
+            }
+        };
+
+        private CompactSession(WebSocketSession session) {
+            super(session);
+        }
+
+        @Override
+        public void sendMessage(WebSocketMessage<?> message) throws IOException {
+            if (compact && message instanceof TextMessage textMessage) {
+                String payload = textMessage.getPayload();
+                if (payload.startsWith("MESSAGE\n") || payload.startsWith("CONNECTED\n")) {
+                    super.sendMessage(encodeFrame(textMessage));
+                    return;
+                }
+            }
+            super.sendMessage(message);
+        }
+
+        private WebSocketMessage<?> encodeFrame(TextMessage textMessage) {
+            try {
+                List<Message<byte[]>> frames = stompDecoder.decode(ByteBuffer.wrap(textMessage.asBytes()));
+                if (frames.size() != 1) {
+                    return textMessage;
+                }
+
+                Message<byte[]> frame = frames.get(0);
+                StompHeaderAccessor accessor = StompHeaderAccessor.wrap(frame);
+                byte[] body = frame.getPayload();
+
+                if (accessor.getCommand() == StompCommand.CONNECTED) {
+                    accessor.setNativeHeader("payload-mode", COMPACT);
+                } else if (accessor.getDestination() != null && ROOM_DESTINATION.matcher(accessor.getDestination()).matches()) {
+                    byte[] compacted = compactChat(body);
+                    originalBytes.increment(body.length);
+                    compactBytes.increment(compacted.length);
+                    body = compacted;
+                } else {
+                    return textMessage;
+                }
+
+                byte[] encoded = stompEncoder.encode(MessageBuilder.createMessage(body, accessor.getMessageHeaders()));
+                return new TextMessage(new String(encoded, StandardCharsets.UTF_8));
+            } catch (Exception e) {
+                // 변환에 실패하면 원래 프레임 그대로 전송
+                log.warn("[encodeFrame] 압축 변환 실패 sessionId={}", getId(), e);
+                return textMessage;
+            }
+        }
+
+        private byte[] compactChat(byte[] body) throws IOException {
+            JsonNode tree = objectMapper.readTree(body);
+            if (!(tree instanceof ObjectNode chat) || !chat.has("chatId")) {
+                return body; // 퇴장, resync 등 채팅이 아닌 알림
+            }
+
+            JsonNode sender = chat.remove("sender");
+            if (sender != null && sender.isObject()) {
+                int profileHash = sender.hashCode();
+                Integer sent = sentProfiles.put(sender.path("userId").asLong(), profileHash);
+                if (sent == null || sent != profileHash) {
+                    chat.set("sender", sender);
+                }
+            }
+
+            JsonNode vote = chat.remove("vote");
+            if (vote != null && vote.isObject()) {
+                String voteId = vote.path("voteId").asText();
+                JsonNode previous = sentVotes.put(voteId, vote);
+                if (previous == null) {
+                    chat.set("vote", vote);
+                } else {
+                    chat.set("voteDelta", diff(voteId, previous, vote));
+                }
+            }
+
+            removeDefaults(chat);
+            return objectMapper.writeValueAsBytes(chat);
+        }
+
+        // voteId + 이전에 보낸 투표와 값이 달라진 필드
+        private ObjectNode diff(String voteId, JsonNode previous, JsonNode current) {
+            ObjectNode delta = objectMapper.createObjectNode();
+            delta.put("voteId", voteId);
+            current.fields().forEachRemaining(field -> {
+                if (!field.getValue().equals(previous.get(field.getKey()))) {
+                    delta.set(field.getKey(), field.getValue());
+                }
+            });
+            return delta;
+        }
+
+        private void removeDefaults(ObjectNode chat) {
+            Iterator<JsonNode> values = chat.elements();
+            while (values.hasNext()) {
+                JsonNode value = values.next();
+                if (value.isNull()
+                        || value.isTextual() && value.asText().isEmpty()
+                        || value.isBoolean() && !value.asBoolean()
+                        || value.isContainerNode() && value.isEmpty()) {
+                    values.remove();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.familring.familyservice.config.websocket;
+
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.web.socket.WebSocketExtension;
+import org.springframework.web.socket.server.support.DefaultHandshakeHandler;
+
+import java.util.List;
+
+// permessage-deflate 확장 사용 여부 제어 (컨테이너가 지원하는 확장 중 꺼진 경우 deflate 제외)
+public class DeflateHandshakeHandler extends DefaultHandshakeHandler {
+
+    private static final String PERMESSAGE_DEFLATE = "permessage-deflate";
+
+    private final boolean deflateEnabled;
+
+    public DeflateHandshakeHandler(boolean deflateEnabled) {
+        this.deflateEnabled = deflateEnabled;
+    }
+
+    @Override
+    protected List<WebSocketExtension> filterRequestedExtensions(ServerHttpRequest request,
+                                                                 List<WebSocketExtension> requestedExtensions,
+                                                                 List<WebSocketExtension> supportedExtensions) {
+        List<WebSocketExtension> extensions = super.filterRequestedExtensions(request, requestedExtensions, supportedExtensions);
+        if (deflateEnabled) {
+            return extensions;
+        }
+        return extensions.stream()
+                .filter(extension -> !PERMESSAGE_DEFLATE.equalsIgnoreCase(extension.getName()))
+                .toList();
+    }
+}
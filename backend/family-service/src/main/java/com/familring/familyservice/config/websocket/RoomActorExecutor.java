@@ -0,0 +1,171 @@
+package com.familring.familyservice.config.websocket;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.support.MessageHandlingRunnable;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/*
+clientInboundChannel 실행기 - 채팅방마다 메일박스(큐)를 두고 한 번에 하나의 작업만 실행 (actor)
+같은 방의 STOMP 프레임은 도착 순서대로 처리되고, 다른 방은 공유 쓰레드 풀에서 병렬로 처리
+방이 정해지지 않은 세션의 프레임(CONNECT 등)은 바로 쓰레드 풀에서 실행
+ */
+@Component
+@Log4j2
+public class RoomActorExecutor implements TaskExecutor {
+
+    private final Executor executor;
+    private final int throughput;
+
+    private final Map<Long, RoomActor> actors = new ConcurrentHashMap<>();
+    private final AtomicInteger queuedCount = new AtomicInteger();
+    private final Timer waitTimer;
+    private final Timer processTimer;
+
+    public RoomActorExecutor(@Qualifier("clientInboundExecutor") Executor executor,
+                             MeterRegistry meterRegistry,
+                             @Value("${chat.room-actor.throughput:32}") int throughput) {
+        this.executor = executor;
+        this.throughput = throughput;
+
+        // 방 id는 태그로 쓰지 않음 (방 수만큼 시계열이 생기지 않도록 전체 분포와 최대값으로 노출)
+        Gauge.builder("chat.room.queue.depth", queuedCount, AtomicInteger::get)
+                .description("메일박스에서 대기 중인 STOMP 프레임 수")
+                .register(meterRegistry);
+        Gauge.builder("chat.room.queue.depth.max", this, RoomActorExecutor::maxQueueDepth)
+                .description("가장 많이 밀린 채팅방의 대기 프레임 수")
+                .register(meterRegistry);
+        Gauge.builder("chat.room.actors", actors, Map::size)
+                .register(meterRegistry);
+        this.waitTimer = Timer.builder("chat.room.queue.wait")
+                .description("프레임이 채팅방 메일박스에서 대기한 시간")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+        this.processTimer = Timer.builder("chat.room.process")
+                .description("채팅방 메일박스에서 꺼낸 프레임 처리 시간")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        Long roomId = resolveRoomId(task);
+        if (roomId == null) {
+            executor.execute(task);
+            return;
+        }
+
+        // 메일박스 추가는 actors의 같은 키 잠금 안에서 실행 - 비어서 제거되는 액터에 프레임이 들어가지 않음
+        Envelope envelope = new Envelope(task, System.nanoTime());
+        RoomActor actor = actors.compute(roomId, (id, existing) -> {
+            RoomActor target = existing != null ? existing : new RoomActor(id);
+            target.mailbox.add(envelope);
+            return target;
+        });
+        queuedCount.incrementAndGet();
+        schedule(actor);
+    }
+
+    // 방마다 동시에 하나의 drain 작업만 실행해 처리 순서 보장
+    private void schedule(RoomActor actor) {
+        if (actor.running.compareAndSet(false, true)) {
+            executor.execute(() -> drain(actor));
+        }
+    }
+
+    private void drain(RoomActor actor) {
+        try {
+            // 한 방이 쓰레드를 독점하지 않도록 throughput개 처리 후 양보
+            for (int i = 0; i < throughput; i++) {
+                Envelope envelope = actor.mailbox.poll();
+                if (envelope == null) {
+                    break;
+                }
+                queuedCount.decrementAndGet();
+                run(envelope);
+            }
+        } finally {
+            actor.running.set(false);
+            removeIfIdle(actor);
+            // drain 종료 직전에 들어온 프레임 처리
+            if (!actor.mailbox.isEmpty()) {
+                schedule(actor);
+            }
+        }
+    }
+
+    // 메일박스가 비었고 실행 중이 아니면 액터 제거 - 방마다 액터가 계속 쌓이지 않도록
+    // 다음 프레임이 오면 execute에서 새 액터를 만듦
+    private void removeIfIdle(RoomActor actor) {
+        actors.computeIfPresent(actor.roomId, (id, existing) ->
+                existing == actor && actor.mailbox.isEmpty() && !actor.running.get() ? null : existing);
+    }
+
+    private void run(Envelope envelope) {
+        long start = System.nanoTime();
+        waitTimer.record(start - envelope.enqueuedAt, TimeUnit.NANOSECONDS);
+        try {
+            envelope.task.run();
+        } catch (Exception e) {
+            log.error("[run] 채팅방 프레임 처리 실패", e);
+        } finally {
+            processTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    // StompHandler가 SUBSCRIBE 시 세션에 저장한 roomId 기준으로 메일박스 선택
+    private Long resolveRoomId(Runnable task) {
+        if (!(task instanceof MessageHandlingRunnable)) {
+            return null;
+        }
+        Map<String, Object> sessionAttributes = SimpMessageHeaderAccessor.getSessionAttributes(
+                ((MessageHandlingRunnable) task).getMessage().getHeaders());
+        if (sessionAttributes == null) {
+            return null;
+        }
+        Object roomId = sessionAttributes.get("roomId");
+        return roomId instanceof Long ? (Long) roomId : null;
+    }
+
+    private int maxQueueDepth() {
+        return actors.values().stream()
+                .mapToInt(actor -> actor.mailbox.size())
+                .max()
+                .orElse(0);
+    }
+
+    private static class RoomActor {
+        private final Long roomId;
+        private final Queue<Envelope> mailbox = new ConcurrentLinkedQueue<>();
+        private final AtomicBoolean running = new AtomicBoolean(false);
+
+        private RoomActor(Long roomId) {
+            this.roomId = roomId;
+        }
+    }
+
+    private static class Envelope {
+        private final Runnable task;
+        private final long enqueuedAt;
+
+        private Envelope(Runnable task, long enqueuedAt) {
+            this.task = task;
+            this.enqueuedAt = enqueuedAt;
+        }
+    }
+}
@@ -0,0 +1,256 @@
+package com.familring.familyservice.config.websocket;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Getter;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeTypeUtils;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.WebSocketHandlerDecorator;
+import org.springframework.web.socket.handler.WebSocketHandlerDecoratorFactory;
+import org.springframework.web.socket.handler.WebSocketSessionDecorator;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/*
+clientOutboundChannel 느린 구독자 보호
+- 세션마다 브로커가 보냈지만 아직 소켓에 쓰지 못한 프레임 수(pending)를 집계
+- pending이 maxPendingFrames를 넘으면 정책에 따라 처리
+  drop      : 새 메시지를 버리고, 밀린 프레임이 절반 이하로 줄면 채팅방 구독으로 resync 알림 1회 전송
+              -> 클라이언트는 채팅 내역 API로 다시 조회
+  terminate : 세션을 SESSION_NOT_RELIABLE로 종료 -> 클라이언트는 재연결 후 채팅 내역 API로 다시 조회
+- 소켓 쓰기 자체가 멈춘 세션은 Spring 세션 데코레이터의 sendTimeLimit / sendBufferSizeLimit 초과 시 종료
+heartbeat 등 MESSAGE가 아닌 프레임은 버리지 않음 (멈춘 세션의 시간 제한 검사가 heartbeat 전송 시점에 일어나도록)
+ */
+@Component
+@Log4j2
+public class SlowConsumerGuard implements ChannelInterceptor, WebSocketHandlerDecoratorFactory {
+
+    private static final Pattern ROOM_DESTINATION = Pattern.compile("^/room/(\\d+)$");
+
+    public enum OverflowPolicy {
+        DROP, TERMINATE
+    }
+
+    @Getter
+    private final int sendTimeLimitMillis;
+    @Getter
+    private final int sendBufferSizeLimit;
+    private final int maxPendingFrames;
+    private final OverflowPolicy overflowPolicy;
+
+    private final MessageChannel clientOutboundChannel;
+    private final ObjectMapper objectMapper;
+
+    private final Map<String, SessionState> sessions = new ConcurrentHashMap<>();
+    private final Counter droppedCounter;
+    private final Counter resyncCounter;
+    private final MeterRegistry meterRegistry;
+
+    public SlowConsumerGuard(@Lazy @Qualifier("clientOutboundChannel") MessageChannel clientOutboundChannel,
+                             ObjectMapper objectMapper,
+                             MeterRegistry meterRegistry,
+                             @Value("${chat.outbound.send-time-limit-millis:5000}") int sendTimeLimitMillis,
+                             @Value("${chat.outbound.send-buffer-size-limit:262144}") int sendBufferSizeLimit,
+                             @Value("${chat.outbound.max-pending-frames:200}") int maxPendingFrames,
+                             @Value("${chat.outbound.overflow-policy:drop}") String overflowPolicy) {
+        this.clientOutboundChannel = clientOutboundChannel;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.sendTimeLimitMillis = sendTimeLimitMillis;
+        this.sendBufferSizeLimit = sendBufferSizeLimit;
+        this.maxPendingFrames = maxPendingFrames;
+        this.overflowPolicy = OverflowPolicy.valueOf(overflowPolicy.toUpperCase());
+
+        this.droppedCounter = Counter.builder("chat.outbound.dropped")
+                .description("느린 세션에 보내지 않고 버린 메시지 수")
+                .register(meterRegistry);
+        this.resyncCounter = Counter.builder("chat.outbound.resync")
+                .description("메시지를 버린 세션에 보낸 resync 알림 수")
+                .register(meterRegistry);
+        Gauge.builder("chat.outbound.lagging.sessions", sessions, s -> s.values().stream().filter(state -> state.lagging.get()).count())
+                .description("메시지를 버리고 있는 세션 수")
+                .register(meterRegistry);
+        Gauge.builder("chat.outbound.pending.max", this, SlowConsumerGuard::maxPending)
+                .description("가장 많이 밀린 세션의 미전송 프레임 수")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(message);
+        SessionState state = accessor.getSessionId() == null ? null : sessions.get(accessor.getSessionId());
+        if (state == null) {
+            return message;
+        }
+
+        if (accessor.getMessageType() == SimpMessageType.MESSAGE) {
+            state.rememberRoomSubscription(accessor);
+
+            if (state.pending.get() >= maxPendingFrames) {
+                handleOverflow(state);
+                return null;
+            }
+        }
+
+        state.pending.incrementAndGet();
+        return message;
+    }
+
+    private void handleOverflow(SessionState state) {
+        if (overflowPolicy == OverflowPolicy.TERMINATE) {
+            if (state.closing.compareAndSet(false, true)) {
+                log.warn("[handleOverflow] 느린 세션 종료 sessionId={}, pending={}", state.session.getId(), state.pending.get());
+                slowSession("terminate");
+                try {
+                    state.session.close(CloseStatus.SESSION_NOT_RELIABLE);
+                } catch (IOException e) {
+                    log.warn("[handleOverflow] 세션 종료 실패 sessionId={}", state.session.getId(), e);
+                }
+            }
+            return;
+        }
+
+        droppedCounter.increment();
+        if (state.lagging.compareAndSet(false, true)) {
+            log.warn("[handleOverflow] 느린 세션 메시지 버림 시작 sessionId={}, pending={}", state.session.getId(), state.pending.get());
+            slowSession("drop");
+        }
+    }
+
+    // 소켓에 프레임 하나를 쓴 뒤 호출, 밀린 프레임이 절반 이하로 줄면 resync 알림
+    private void afterSent(SessionState state) {
+        int pending = state.pending.updateAndGet(count -> count > 0 ? count - 1 : 0);
+        if (pending <= maxPendingFrames / 2 && state.lagging.compareAndSet(true, false)) {
+            sendResync(state);
+        }
+    }
+
+    private void sendResync(SessionState state) {
+        if (state.roomSubscriptionId == null) {
+            return;
+        }
+
+        try {
+            byte[] payload = objectMapper.writeValueAsBytes(Map.of("type", "resync", "roomId", state.roomId));
+
+            SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+            accessor.setSessionId(state.session.getId());
+            accessor.setSubscriptionId(state.roomSubscriptionId);
+            accessor.setDestination(state.roomDestination);
+            accessor.setContentType(MimeTypeUtils.APPLICATION_JSON);
+            accessor.setLeaveMutable(true);
+
+            clientOutboundChannel.send(MessageBuilder.createMessage(payload, accessor.getMessageHeaders()));
+            resyncCounter.increment();
+            log.info("[sendResync] resync 알림 전송 sessionId={}, roomId={}", state.session.getId(), state.roomId);
+        } catch (JsonProcessingException e) {
+            log.error("[sendResync] resync 알림 생성 실패", e);
+        }
+    }
+
+    private void slowSession(String action) {
+        meterRegistry.counter("chat.outbound.slow.sessions", "action", action).increment();
+    }
+
+    private int maxPending() {
+        return sessions.values().stream()
+                .mapToInt(state -> state.pending.get())
+                .max()
+                .orElse(0);
+    }
+
+    // 세션 연결 시 소켓 쓰기 완료를 집계하는 데코레이터로 감싸고, 종료 시 상태 제거
+    @Override
+    public WebSocketHandler decorate(WebSocketHandler handler) {
+        return new WebSocketHandlerDecorator(handler) {
+            @Override
+            public void afterConnectionEstablished(WebSocketSession session) throws Exception {
+                SessionState state = new SessionState(session);
+                sessions.put(session.getId(), state);
+                super.afterConnectionEstablished(new CountingSession(session, state));
+            }
+
+            @Override
+            public void afterConnectionClosed(WebSocketSession session, CloseStatus closeStatus) throws Exception {
+                SessionState state = sessions.remove(session.getId());
+                // sendTimeLimit / sendBufferSizeLimit 초과로 Spring이 끊은 세션
+                if (state != null && !state.closing.get() && CloseStatus.SESSION_NOT_RELIABLE.equalsCode(closeStatus)) {
+                    log.warn("[afterConnectionClosed] 전송 제한 초과로 세션 종료 sessionId={}", session.getId());
+                    slowSession("send-limit");
+                }
+                super.afterConnectionClosed(session, closeStatus);
+            }
+        };
+    }
+
+    private class CountingSession extends WebSocketSessionDecorator {
+        private final SessionState state;
+
+        private CountingSession(WebSocketSession session, SessionState state) {
+            super(session);
+            this.state = state;
+        }
+
+        @Override
+        public void sendMessage(WebSocketMessage<?> message) throws IOException {
+            try {
+                super.sendMessage(message);
+            } finally {
+                afterSent(state);
+            }
+        }
+    }
+
+    private static class SessionState {
+        private final WebSocketSession session;
+        private final AtomicInteger pending = new AtomicInteger();
+        private final AtomicBoolean lagging = new AtomicBoolean();
+        private final AtomicBoolean closing = new AtomicBoolean();
+
+        // resync 알림을 보낼 채팅방 구독 (/room/{roomId})
+        private volatile Long roomId;
+        private volatile String roomDestination;
+        private volatile String roomSubscriptionId;
+
+        private SessionState(WebSocketSession session) {
+            this.session = session;
+        }
+
+        private void rememberRoomSubscription(SimpMessageHeaderAccessor accessor) {
+            String destination = accessor.getDestination();
+            if (destination == null || destination.equals(roomDestination) && Objects.equals(accessor.getSubscriptionId(), roomSubscriptionId)) {
+                return;
+            }
+            Matcher matcher = ROOM_DESTINATION.matcher(destination);
+            if (matcher.matches()) {
+                roomId = Long.valueOf(matcher.group(1));
+                roomDestination = destination;
+                roomSubscriptionId = accessor.getSubscriptionId();
+            }
+        }
+    }
+}
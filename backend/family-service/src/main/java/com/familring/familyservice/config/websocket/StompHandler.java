@@ -1,15 +1,12 @@
 package com.familring.familyservice.config.websocket;
 
-import com.familring.familyservice.config.redis.RedisUtil;
-import com.familring.familyservice.model.dto.chat.Chat;
 import com.familring.familyservice.model.dto.response.UserInfoResponse;
-import com.familring.familyservice.model.repository.ChatRepository;
 import com.familring.familyservice.service.chat.ChatRoomService;
-import com.familring.familyservice.service.client.UserServiceFeignClient;
+import com.familring.familyservice.service.chat.RoomPresenceService;
+import com.familring.familyservice.service.client.UserInfoCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.messaging.Message;
 import org.springframework.messaging.MessageChannel;
 import org.springframework.messaging.MessageHeaders;
@@ -17,7 +14,7 @@ import org.springframework.messaging.simp.stomp.StompCommand;
 import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
 import org.springframework.messaging.support.ChannelInterceptor;
 
-import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 
@@ -26,11 +23,10 @@ import java.util.concurrent.CompletableFuture;
 @Log4j2
 public class StompHandler implements ChannelInterceptor {
 
-    private final UserServiceFeignClient userServiceFeignClient;
-    private final RedisUtil redisUtil;
-    private final ChatRepository chatRepository;
+    private final UserInfoCache userInfoCache;
+    private final RoomPresenceService roomPresenceService;
     private final ChatRoomService chatRoomService;
-    private final MongoTemplate mongoTemplate;
+    private final CompactPayloadCodec compactPayloadCodec;
 
     @Override
     public Message<?> preSend(Message<?> message, MessageChannel channel) {
@@ -43,6 +39,16 @@ public class StompHandler implements ChannelInterceptor {
     }
 
     private void handleMessage(StompCommand command, StompHeaderAccessor accessor, MessageHeaders headers) {
+        // 채팅방에 들어온 세션의 프레임(SEND, SUBSCRIBE, heartbeat 등)을 받으면 접속 임대 연장
+        if (command != StompCommand.DISCONNECT) {
+            refreshChatRoom(accessor);
+        }
+
+        // 명령이 없는 프레임은 heartbeat
+        if (command == null) {
+            return;
+        }
+
         switch (command) {
             case CONNECT:
                 log.info("[handleMessage] CONNECT");
@@ -56,6 +62,14 @@ public class StompHandler implements ChannelInterceptor {
 
                 Long userId = Long.valueOf(userIdHeader);
                 accessor.getSessionAttributes().put("userId", userId); // 세션에 저장
+
+                // 클라이언트가 heartbeat를 보내지 않는 세션(heart-beat 0,x)은 서버가 접속 임대를 대신 갱신
+                boolean clientHeartbeat = accessor.getHeartbeat()[0] > 0;
+                accessor.getSessionAttributes().put("clientHeartbeat", clientHeartbeat);
+                log.info("[handleMessage] 클라이언트 heartbeat 전송 여부: {}", clientHeartbeat);
+
+                // 브로드캐스트 압축 모드 요청 확인
+                compactPayloadCodec.negotiate(accessor.getSessionId(), accessor.getFirstNativeHeader(CompactPayloadCodec.PAYLOAD_MODE_HEADER));
                 break;
 
             case SUBSCRIBE:
@@ -65,7 +79,8 @@ public class StompHandler implements ChannelInterceptor {
                 Long connectRoomId = getChatRoomNo(headers);
 
                 if (destination.equals("/room/" + connectRoomId)) {
-                    Long roomId = connectToChatRoom(headers, userId);
+                    clientHeartbeat = Boolean.TRUE.equals(accessor.getSessionAttributes().get("clientHeartbeat"));
+                    Long roomId = connectToChatRoom(headers, userId, accessor.getSessionId(), clientHeartbeat);
                     accessor.getSessionAttributes().put("roomId", roomId); // roomId를 세션에 저장
                     log.info("[handleMessage] 구독한 채팅 방 = {}", roomId);
                     log.info("[handleMessage] SUBSCRIBE 시 읽음 처리 완료 for userId={} in roomId={}", userId, roomId);
@@ -96,7 +111,7 @@ public class StompHandler implements ChannelInterceptor {
                     log.info("[handleMessage] userId={}가 roomId={}에서 퇴장합니다.", userId, roomId);
 
                     // Redis에서 채팅방 인원 수 감소 처리
-                    disconnectChatRoom(roomId, userId);
+                    disconnectChatRoom(roomId, userId, accessor.getSessionId());
                 } else {
                     log.warn("[handleMessage] 세션에 userId 또는 roomId가 없습니다.");
                 }
@@ -104,47 +119,60 @@ public class StompHandler implements ChannelInterceptor {
         }
     }
 
-    public void connectChatRoom(Long roomId, Long userId) {
-        log.info("[connectChatRoom] roomId={}, userId={}", roomId, userId);
-
-        String chatRoomUserCountKey = "CHAT_ROOM_USER_COUNT_" + roomId;
-        log.info("[connectChatRoom] chatRoomUserCountKey={}", chatRoomUserCountKey);
+    public void connectChatRoom(Long roomId, Long userId, String sessionId, boolean clientHeartbeat) {
+        log.info("[connectChatRoom] roomId={}, userId={}, sessionId={}", roomId, userId, sessionId);
 
-        Long roomUserCount = redisUtil.getSetSize(chatRoomUserCountKey);
-        log.info("[connectChatRoom] 기존 채팅방 구독한 사람 수 roomUserCount={}", roomUserCount);
-
-        // 채팅방에 있는 사용자를 Redis에 추가
-        roomUserCount = redisUtil.insertSet(chatRoomUserCountKey, String.valueOf(userId));
-        log.info("[connectChatRoom] 구독 후 채팅방 사람 수 roomUserCount={}", roomUserCount);
+        // 채팅방 접속자에 세션 임대 등록 (수신 프레임으로 갱신, heartbeat 없는 세션은 연결이 끊길 때까지 서버가 갱신)
+        long roomSessionCount = roomPresenceService.join(roomId, userId, sessionId);
+        if (!clientHeartbeat) {
+            roomPresenceService.keepAlive(roomId, userId, sessionId);
+        }
+        log.info("[connectChatRoom] 구독 후 채팅방 접속 세션 수 roomSessionCount={}", roomSessionCount);
 
-        // CompletableFuture로 읽음 처리 후 이벤트 호출
-        CompletableFuture.runAsync(() -> markMessagesAsRead(roomId, userId))
-                .thenRunAsync(() -> chatRoomService.notifyReadStatusUpdate(roomId));
+        // CompletableFuture로 읽음 처리 (새로 읽은 구간이 있으면 읽음 상태 변경분 전송)
+        CompletableFuture.runAsync(() -> chatRoomService.markMessagesAsRead(roomId, userId));
 
         log.info("[connectChatRoom] 읽음 처리 완료 후 이벤트 전송 완료");
     }
 
-    public void disconnectChatRoom(Long roomId, Long userId) {
-        log.info("[disconnectChatRoom] roomId={}, userId={}", roomId, userId);
-
-        String chatRoomUserCountKey = "CHAT_ROOM_USER_COUNT_" + roomId;
+    public void disconnectChatRoom(Long roomId, Long userId, String sessionId) {
+        log.info("[disconnectChatRoom] roomId={}, userId={}, sessionId={}", roomId, userId, sessionId);
 
-        // Redis에서 사용자 퇴장 처리
-        Long remainingUserCount = redisUtil.deleteSet(chatRoomUserCountKey, String.valueOf(userId));
-        log.info("[disconnectChatRoom] 퇴장 후 채팅방 인원 수 remainingUserCount={}", remainingUserCount);
+        // 채팅방 접속자에서 세션 임대 해제
+        long remainingSessionCount = roomPresenceService.leave(roomId, userId, sessionId);
+        log.info("[disconnectChatRoom] 퇴장 후 채팅방 접속 세션 수 remainingSessionCount={}", remainingSessionCount);
 
         // 읽음 상태 업데이트 알림 전송
         chatRoomService.notifyRoomExit(roomId, userId);
     }
 
-    private Long connectToChatRoom(MessageHeaders headers, Long userId) {
+    // 프레임 수신 시 채팅방 접속 임대 연장 (heartbeat 간격의 절반 이내 재수신은 생략)
+    private void refreshChatRoom(StompHeaderAccessor accessor) {
+        Map<String, Object> sessionAttributes = accessor.getSessionAttributes();
+        if (sessionAttributes == null || sessionAttributes.get("roomId") == null) {
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+        Long refreshedAt = (Long) sessionAttributes.get("presenceRefreshedAt");
+        if (refreshedAt != null && now - refreshedAt < roomPresenceService.getHeartbeatMillis() / 2) {
+            return;
+        }
+
+        Long roomId = (Long) sessionAttributes.get("roomId");
+        Long userId = (Long) sessionAttributes.get("userId");
+        roomPresenceService.refresh(roomId, userId, accessor.getSessionId());
+        sessionAttributes.put("presenceRefreshedAt", now);
+    }
+
+    private Long connectToChatRoom(MessageHeaders headers, Long userId, String sessionId, boolean clientHeartbeat) {
         Long roomId = getChatRoomNo(headers);
         log.info("[connectToChatRoom] 채팅방 번호 = {}", roomId);
 
-        UserInfoResponse user = userServiceFeignClient.getUser(userId).getData();
+        UserInfoResponse user = userInfoCache.getUser(userId);
         log.info("[connectToChatRoom] 회원 이름 = {}", user.getUserNickname());
 
-        connectChatRoom(roomId, user.getUserId());
+        connectChatRoom(roomId, user.getUserId(), sessionId, clientHeartbeat);
         log.info("[connectToChatRoom] 채팅방 인원 증가");
 
         return roomId;
@@ -170,29 +198,4 @@ public class StompHandler implements ChannelInterceptor {
         return null;
     }
 
-    private void markMessagesAsRead(Long roomId, Long userId) {
-        List<Chat> chats = chatRepository.findAllByRoomId(roomId);
-
-        for (Chat chat : chats) {
-            String readStatusKey = "READ_STATUS_" + roomId + "_" + chat.getChatId();
-            String unreadCountKey = "UNREAD_COUNT_" + roomId + "_" + chat.getChatId();
-
-            // Redis에서 읽음 상태 체크
-            boolean isAlreadyRead = redisUtil.containSet(readStatusKey, String.valueOf(userId));
-
-            // MongoDB에서 읽음 상태 체크
-            boolean isAlreadyReadInMongo = chat.getReadByUserIds().contains(userId);
-
-            if (!isAlreadyRead && !isAlreadyReadInMongo) {
-                redisUtil.insertSet(readStatusKey, String.valueOf(userId));
-                redisUtil.decrementString(unreadCountKey);
-                log.info("[markMessagesAsRead] userId={}가 messageId={}를 Redis에서 읽음 처리함", userId, chat.getChatId());
-
-                chat.markAsRead(userId);
-                chatRepository.save(chat);
-                log.info("[markMessagesAsRead] userId={}가 messageId={}를 MongoDB에서 읽음 처리함", userId, chat.getChatId());
-            }
-        }
-    }
-
 }
@@ -2,23 +2,47 @@ package com.familring.familyservice.config.websocket;
 
 import com.familring.familyservice.exception.base.GlobalExceptionHandler;
 import com.familring.familyservice.exception.base.StompErrorHandler;
+import com.familring.familyservice.service.chat.RoomPresenceService;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.scheduling.TaskScheduler;
 import org.springframework.web.socket.config.annotation.*;
 import org.springframework.web.socket.messaging.StompSubProtocolErrorHandler;
 
 @Configuration
 @EnableWebSocket
 @EnableWebSocketMessageBroker
-@RequiredArgsConstructor
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
     private final StompHandler stompHandler;
+    private final RoomActorExecutor roomActorExecutor;
+    private final RoomPresenceService roomPresenceService;
+    private final SlowConsumerGuard slowConsumerGuard;
+    private final CompactPayloadCodec compactPayloadCodec;
+    private final TaskScheduler presenceScheduler;
+    private final boolean permessageDeflate;
+
+    public WebSocketConfig(StompHandler stompHandler,
+                           RoomActorExecutor roomActorExecutor,
+                           RoomPresenceService roomPresenceService,
+                           SlowConsumerGuard slowConsumerGuard,
+                           CompactPayloadCodec compactPayloadCodec,
+                           @Qualifier("presenceScheduler") TaskScheduler presenceScheduler,
+                           @Value("${chat.websocket.permessage-deflate:true}") boolean permessageDeflate) {
+        this.stompHandler = stompHandler;
+        this.roomActorExecutor = roomActorExecutor;
+        this.roomPresenceService = roomPresenceService;
+        this.slowConsumerGuard = slowConsumerGuard;
+        this.compactPayloadCodec = compactPayloadCodec;
+        this.presenceScheduler = presenceScheduler;
+        this.permessageDeflate = permessageDeflate;
+    }
 
     @Bean
     public StompSubProtocolErrorHandler stompErrorHandler(ObjectMapper objectMapper, SimpMessagingTemplate messagingTemplate) {
@@ -30,17 +54,46 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
         registry.addEndpoint("/ws-stomp")
                 .setAllowedOriginPatterns("*")
                 .withSockJS();
+        // SockJS 없이 바로 연결하는 모바일 클라이언트용 (permessage-deflate 협상 가능)
+        registry.addEndpoint("/ws-stomp-raw")
+                .setAllowedOriginPatterns("*")
+                .setHandshakeHandler(new DeflateHandshakeHandler(permessageDeflate));
         registry.setErrorHandler(stompErrorHandler(null, null)); // 여기도 수정
     }
 
     @Override
     public void configureMessageBroker(MessageBrokerRegistry registry) {
         registry.setApplicationDestinationPrefixes("/send");
-        registry.enableSimpleBroker("/room");
+        // 세션마다 브로커가 보낸 순서대로 clientOutboundChannel에 전달
+        registry.setPreservePublishOrder(true);
+        // 인스턴스 간 전달은 RoomMessageBroker가 담당, 각 인스턴스는 자신의 구독자에게만 전달
+        // heartbeat를 주고받아 접속자 임대를 갱신하고, 응답 없는 세션은 브로커가 끊음 (heartbeat 0으로 연결한 세션은 RoomPresenceService가 갱신)
+        long heartbeat = roomPresenceService.getHeartbeatMillis();
+        registry.enableSimpleBroker("/room")
+                .setHeartbeatValue(new long[]{heartbeat, heartbeat})
+                .setTaskScheduler(presenceScheduler);
     }
 
     @Override
     public void configureClientInboundChannel(ChannelRegistration registration) {
         registration.interceptors(stompHandler);
+        // 채팅방 단위로 순서대로 처리 (같은 방의 채팅/투표는 직렬, 다른 방끼리는 병렬)
+        registration.executor(roomActorExecutor);
+    }
+
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        // 세션별 미전송 프레임 수 제한 (느린 세션은 메시지를 버리고 resync 알림 또는 종료)
+        registration.interceptors(slowConsumerGuard);
+    }
+
+    @Override
+    public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+        // 소켓 쓰기가 멈춘 세션은 시간/버퍼 제한을 넘으면 종료
+        registration.setSendTimeLimit(slowConsumerGuard.getSendTimeLimitMillis())
+                .setSendBufferSizeLimit(slowConsumerGuard.getSendBufferSizeLimit())
+                .addDecoratorFactory(slowConsumerGuard)
+                // X-Payload-Mode: compact 세션은 발신자 프로필/투표를 중복 없이 전송
+                .addDecoratorFactory(compactPayloadCodec);
     }
 }
\ No newline at end of file
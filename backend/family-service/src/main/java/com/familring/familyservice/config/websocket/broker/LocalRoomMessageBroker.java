@@ -0,0 +1,20 @@
+package com.familring.familyservice.config.websocket.broker;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+
+// 단일 인스턴스(로컬, 테스트)용 브로커 - 현재 JVM의 simple broker로만 전달
+@Component
+@ConditionalOnProperty(name = "chat.broker.type", havingValue = "local")
+@RequiredArgsConstructor
+public class LocalRoomMessageBroker implements RoomMessageBroker {
+
+    private final SimpMessagingTemplate template;
+
+    @Override
+    public void send(String destination, Object payload) {
+        template.convertAndSend(destination, payload);
+    }
+}
@@ -0,0 +1,67 @@
+package com.familring.familyservice.config.websocket.broker;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+
+// Redis pub/sub으로 모든 인스턴스에 fan-out 하는 브로커 - 각 인스턴스가 자신의 simple broker로 구독자에게 전달
+@Component
+@ConditionalOnProperty(name = "chat.broker.type", havingValue = "redis", matchIfMissing = true)
+@RequiredArgsConstructor
+@Log4j2
+public class RedisRoomMessageBroker implements RoomMessageBroker, MessageListener {
+
+    public static final String CHANNEL = "CHAT_ROOM_BROADCAST";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final SimpMessagingTemplate template;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public void send(String destination, Object payload) {
+        try {
+            RoomMessage roomMessage = new RoomMessage(destination, objectMapper.valueToTree(payload));
+            stringRedisTemplate.convertAndSend(CHANNEL, objectMapper.writeValueAsString(roomMessage));
+        } catch (JsonProcessingException e) {
+            log.error("[send] 메시지 직렬화 실패 destination={}", destination, e);
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            RoomMessage roomMessage = objectMapper.readValue(new String(message.getBody(), StandardCharsets.UTF_8), RoomMessage.class);
+
+            // 문자열 payload는 기존과 동일하게 text 그대로 전달
+            JsonNode payload = roomMessage.getPayload();
+            if (payload.isTextual()) {
+                template.convertAndSend(roomMessage.getDestination(), payload.asText());
+            } else {
+                template.convertAndSend(roomMessage.getDestination(), payload);
+            }
+        } catch (Exception e) {
+            log.error("[onMessage] 메시지 전달 실패", e);
+        }
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class RoomMessage {
+        private String destination;
+        private JsonNode payload;
+    }
+}
@@ -0,0 +1,7 @@
+package com.familring.familyservice.config.websocket.broker;
+
+// /room/** 구독자에게 메시지를 전달하는 브로커 - 다른 인스턴스에 연결된 구독자에게도 전달
+public interface RoomMessageBroker {
+
+    void send(String destination, Object payload);
+}
@@ -0,0 +1,31 @@
+package com.familring.familyservice.config.websocket.broker;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.util.concurrent.Executor;
+
+@Configuration
+@ConditionalOnProperty(name = "chat.broker.type", havingValue = "redis", matchIfMissing = true)
+public class RoomMessageBrokerConfig {
+
+    @Bean
+    public RedisMessageListenerContainer roomMessageListenerContainer(RedisConnectionFactory redisConnectionFactory,
+                                                                      RedisRoomMessageBroker redisRoomMessageBroker,
+                                                                      @Qualifier("roomBroadcastExecutor") Executor roomBroadcastExecutor) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        // 받은 순서대로 전달 (채팅방별 발행 순서 유지)
+        container.setTaskExecutor(roomBroadcastExecutor);
+        // 구독(blocking 클라이언트의 구독 대기)은 전달 쓰레드를 차지하지 않도록 따로 실행
+        container.setSubscriptionExecutor(new SimpleAsyncTaskExecutor("room-broadcast-subscription-"));
+        container.addMessageListener(redisRoomMessageBroker, new ChannelTopic(RedisRoomMessageBroker.CHANNEL));
+        return container;
+    }
+}
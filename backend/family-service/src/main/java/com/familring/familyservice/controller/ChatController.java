@@ -1,5 +1,6 @@
 package com.familring.familyservice.controller;
 
+import com.familring.familyservice.config.websocket.broker.RoomMessageBroker;
 import com.familring.familyservice.model.dto.response.ChatResponse;
 import com.familring.familyservice.model.dto.chat.Chat;
 import com.familring.familyservice.model.dto.request.ChatRequest;
@@ -8,7 +9,6 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.springframework.messaging.handler.annotation.MessageMapping;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.web.bind.annotation.*;
 
 @RestController
@@ -19,7 +19,7 @@ import org.springframework.web.bind.annotation.*;
 @Log4j2
 public class ChatController {
 
-    private final SimpMessagingTemplate template;
+    private final RoomMessageBroker roomMessageBroker;
     private final ChatService chatService;
 
     @MessageMapping("/chat.send")
@@ -31,7 +31,7 @@ public class ChatController {
         Chat chat = chatService.createChatOrVoiceOrPhotoOrVote(roomId, chatRequest);
         ChatResponse chatResponse = chatService.findChat(chat, chatRequest.getSenderId());
 
-        template.convertAndSend("/room/" + roomId, chatResponse);
+        roomMessageBroker.send("/room/" + roomId, chatResponse);
         log.debug("[sendMessage] 일반 메시지 소켓 전송 완료.");
     }
 
@@ -44,7 +44,7 @@ public class ChatController {
         Chat chat = chatService.createChatOrVoiceOrPhotoOrVote(roomId, chatRequest);
         ChatResponse voiceChatResponse = chatService.findChat(chat, chatRequest.getSenderId());
 
-        template.convertAndSend("/room/" + roomId, voiceChatResponse);
+        roomMessageBroker.send("/room/" + roomId, voiceChatResponse);
         log.debug("[sendVoiceMessage] 음성 메시지 소켓 전송 완료.");
     }
     
@@ -57,7 +57,7 @@ public class ChatController {
         Chat chat = chatService.createChatOrVoiceOrPhotoOrVote(roomId, chatRequest);
         ChatResponse voiceChatResponse = chatService.findChat(chat, chatRequest.getSenderId());
 
-        template.convertAndSend("/room/" + roomId, voiceChatResponse);
+        roomMessageBroker.send("/room/" + roomId, voiceChatResponse);
         log.debug("[sendPhotoMessage] 음성 메시지 소켓 전송 완료.");
     }
 
@@ -71,7 +71,7 @@ public class ChatController {
         Chat chatVoteResponse = chatService.createChatVoteResponse(roomId, voteId, chatRequest);
         ChatResponse chatResponse = chatService.findChat(chatVoteResponse, chatRequest.getSenderId());
 
-        template.convertAndSend("/room/" + roomId, chatResponse);
+        roomMessageBroker.send("/room/" + roomId, chatResponse);
         log.info("[participateInVote] 투표 응답 소켓 전송 완료.");
 
         // 모든 투표가 완료된 경우 투표 결과 전송
@@ -81,7 +81,7 @@ public class ChatController {
             Chat chatVoteResult = chatService.createChatVoteResult(roomId, voteId, chatRequest);
             chatResponse = chatService.findChat(chatVoteResult, chatRequest.getSenderId());
 
-            template.convertAndSend("/room/" + roomId, chatResponse);
+            roomMessageBroker.send("/room/" + roomId, chatResponse);
             log.info("[participateInVote] 투표 결과 소켓 전송 완료.");
         }
     }
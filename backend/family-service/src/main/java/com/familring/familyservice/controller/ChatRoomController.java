@@ -3,12 +3,13 @@ package com.familring.familyservice.controller;
 import com.familring.common_module.dto.BaseResponse;
 import com.familring.familyservice.model.dto.response.ChatPageResponse;
 import com.familring.familyservice.model.dto.response.ChatResponse;
+import com.familring.familyservice.model.dto.response.ChatSyncResponse;
 import com.familring.familyservice.service.chat.ChatRoomService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
-import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -32,7 +33,7 @@ public class ChatRoomController {
             @RequestParam(value = "page") int page, @RequestParam(value = "size") int size) {
         try {
             log.info("[joinRoom] 채팅방 입장 요청 roomId={}, userId={}, page={}, size={}", roomId, userId, page, size);
-            Page<ChatResponse> chatPage = chatRoomService.findPagedChatByRoomId(roomId, userId, page, size);
+            Slice<ChatResponse> chatPage = chatRoomService.findPagedChatByRoomId(roomId, userId, page, size);
 
             ChatPageResponse chatPageResponse = ChatPageResponse.builder()
                     .hasNext(chatPage.hasNext())
@@ -49,4 +50,28 @@ public class ChatRoomController {
         }
     }
 
+    @GetMapping("{roomId}/chats")
+    @Operation(summary = "채팅 목록 조회 (커서)", description = "before에 해당하는 채팅보다 이전 채팅을 최신순으로 size개 조회, before가 없으면 가장 최신 채팅부터 조회")
+    public ResponseEntity<?> getChatsBeforeCursor(
+            @PathVariable Long roomId, @RequestHeader("X-User-ID") Long userId,
+            @RequestParam(value = "before", required = false) String beforeChatId, @RequestParam(value = "size") int size) {
+        log.info("[getChatsBeforeCursor] 채팅 조회 요청 roomId={}, userId={}, before={}, size={}", roomId, userId, beforeChatId, size);
+        ChatPageResponse chatPageResponse = chatRoomService.findChatBeforeCursor(roomId, userId, beforeChatId, size);
+
+        log.info("[getChatsBeforeCursor] 채팅 조회 성공 roomId={}, {}개의 메시지가 조회됨", roomId, chatPageResponse.getChatList().size());
+        return ResponseEntity.ok(BaseResponse.create(HttpStatus.OK.value(), "채팅 목록을 성공적으로 조회했습니다.", chatPageResponse));
+    }
+
+    @GetMapping("{roomId}/sync")
+    @Operation(summary = "채팅 동기화", description = "version(마지막으로 받은 채팅 순번) 이후의 새 채팅, 회원별 읽음 순번, 바뀐 투표를 조회, hasMore가 true면 응답의 version으로 다시 요청")
+    public ResponseEntity<?> syncChat(
+            @PathVariable Long roomId, @RequestHeader("X-User-ID") Long userId,
+            @RequestParam(value = "version") long version, @RequestParam(value = "size", defaultValue = "100") int size) {
+        log.info("[syncChat] 채팅 동기화 요청 roomId={}, userId={}, version={}, size={}", roomId, userId, version, size);
+        ChatSyncResponse chatSyncResponse = chatRoomService.syncChat(roomId, userId, version, size);
+
+        log.info("[syncChat] 채팅 동기화 성공 roomId={}, {}개의 메시지가 조회됨, version={}", roomId, chatSyncResponse.getChatList().size(), chatSyncResponse.getVersion());
+        return ResponseEntity.ok(BaseResponse.create(HttpStatus.OK.value(), "채팅 변경분을 성공적으로 조회했습니다.", chatSyncResponse));
+    }
+
 }
@@ -0,0 +1,10 @@
+package com.familring.familyservice.exception.chat;
+
+import com.familring.familyservice.exception.base.ApplicationException;
+import com.familring.familyservice.exception.constant.ErrorDetail;
+
+public class InvalidVoteChoiceException extends ApplicationException {
+    public InvalidVoteChoiceException() {
+        super(ErrorDetail.INVALID_VOTE_CHOICE);
+    }
+}
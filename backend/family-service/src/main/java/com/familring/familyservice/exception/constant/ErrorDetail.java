@@ -14,8 +14,11 @@ public enum ErrorDetail {
 
     // ChatResponse
     NOT_FOUND_CHAT_ROOM("C0001", HttpStatus.NOT_FOUND, "채팅방을 찾을 수 없습니다."),
+    NOT_FOUND_CHAT("C0002", HttpStatus.NOT_FOUND, "채팅을 찾을 수 없습니다."),
+    CHAT_PERSISTENCE_BUSY("C0003", HttpStatus.SERVICE_UNAVAILABLE, "채팅 저장 요청이 많습니다. 잠시 후 다시 시도해 주세요."),
     NOT_FOUND_VOTE("V0001", HttpStatus.NOT_FOUND, "투표를 찾을 수 없습니다."),
-    ALREADY_PARTICIPATED("V0002", HttpStatus.CONFLICT, "사용자가 이미 투표에 참여했습니다.");
+    ALREADY_PARTICIPATED("V0002", HttpStatus.CONFLICT, "사용자가 이미 투표에 참여했습니다."),
+    INVALID_VOTE_CHOICE("V0003", HttpStatus.BAD_REQUEST, "허용되지 않은 투표 선택지입니다.");
 
     private final String errorCode;
     private final HttpStatus httpStatus;
@@ -2,6 +2,8 @@ package com.familring.familyservice.model.dto.chat;
 
 import lombok.*;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import java.time.LocalDateTime;
@@ -14,6 +16,10 @@ import java.util.Set;
 @NoArgsConstructor
 @AllArgsConstructor
 @Document(collection = "chats")
+@CompoundIndexes({
+        @CompoundIndex(name = "roomId_createdAt_id", def = "{'roomId': 1, 'createdAt': -1, '_id': -1}"), // 커서 조회 정렬 (createdAt desc, _id desc)
+        @CompoundIndex(name = "roomId_seq", def = "{'roomId': 1, 'seq': 1}") // 순번 이후 변경분 조회 (sync)
+})
 @ToString
 public class Chat {
 
@@ -41,6 +47,7 @@ public class Chat {
     private Map<String, Integer> resultOfVote; // 투표 결과
     
     // 읽음 처리
+    private long seq; // 채팅방 내 메시지 순번 (0이면 순번 도입 이전 채팅)
     private Set<Long> readByUserIds; // 읽음 사람 id 저장
 
     // getter, setter
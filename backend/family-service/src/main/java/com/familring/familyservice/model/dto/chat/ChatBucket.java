@@ -0,0 +1,35 @@
+package com.familring.familyservice.model.dto.chat;
+
+import lombok.*;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+// 채팅방의 연속된 채팅 N개를 하나의 문서에 묶어서 저장 (chat.storage.layout=bucket)
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "chat_buckets")
+@CompoundIndexes({
+        @CompoundIndex(name = "roomId_endAt", def = "{'roomId': 1, 'endAt': -1}"),
+        @CompoundIndex(name = "roomId_messagesSeq", def = "{'roomId': 1, 'messages.seq': 1}") // 순번 이후 변경분 조회 (sync)
+})
+@ToString
+public class ChatBucket {
+
+    @Id
+    private String bucketId;
+    private Long roomId; // 채팅 방의 id == familyId
+
+    private LocalDateTime startAt; // 버킷의 가장 오래된 채팅 시간
+    private LocalDateTime endAt; // 버킷의 가장 최신 채팅 시간
+    private int count; // 버킷에 담긴 채팅 수
+    private boolean sealed; // 더 이상 채팅을 추가하지 않는 버킷 (이전 채팅을 옮겨 만든 버킷)
+
+    private List<Chat> messages; // 채팅 목록 (오래된 순)
+}
@@ -5,6 +5,7 @@ import org.springframework.data.annotation.Id;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Map;
 
 @Data
@@ -14,6 +15,9 @@ import java.util.Map;
 @Document(collection = "votes")
 @ToString
 public class Vote {
+    // 투표 선택지 - choices, voteResult의 필드 이름으로 쓰이므로 이 값만 허용
+    public static final List<String> OPTIONS = List.of("찬성", "반대");
+
     @Id
     private String voteId;
 
@@ -29,4 +33,8 @@ public class Vote {
     // 채팅 정보
     private Long roomId; // 채팅 방의 id == familyId
     private Long senderId; // 발신자 id
+
+    public static boolean isOption(String choice) {
+        return choice != null && OPTIONS.contains(choice);
+    }
 }
@@ -15,6 +15,7 @@ public class ChatResponse {
     private String chatId; // 채팅의 id
     private Long roomId; // 채팅 방의 id == familyId
     private MessageType messageType; // 메세지의 타입
+    private long seq; // 채팅방 내 메시지 순번 (읽음 상태 변경분 적용에 사용)
     
     private Long senderId; // 발신자 id
     private UserInfoResponse sender; // 발신자 정보
@@ -0,0 +1,23 @@
+package com.familring.familyservice.model.dto.response;
+
+import com.familring.familyservice.model.dto.chat.Vote;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+// 클라이언트가 가진 버전(마지막으로 받은 채팅 순번) 이후의 변경분
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChatSyncResponse {
+    private long version; // 다음 동기화 요청에 보낼 버전
+    private boolean hasMore; // 아직 받지 않은 채팅이 남아 있으면 true (version으로 다시 요청)
+    private List<ChatResponse> chatList; // 새 채팅 (순번 오름차순)
+    private Map<Long, Long> readSeqs; // 회원별 마지막으로 읽은 순번 - 이미 가진 채팅의 읽지 않은 사람 수 재계산용
+    private List<Vote> votes; // 새 채팅이 참조하는 투표의 최신 상태 (투표 응답/결과로 바뀐 투표)
+}
@@ -0,0 +1,28 @@
+package com.familring.familyservice.model.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+// /room/{roomId}/readStatus 로 전송하는 읽음 상태 변경분
+// 클라이언트는 fromSeq < seq <= toSeq 인 메시지의 unReadMembers를 reads 하나당 1씩 감소
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReadStatusResponse {
+    private Long roomId;
+    private List<Read> reads;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Read {
+        private Long userId; // 읽은 회원 id
+        private long fromSeq; // 이전에 읽은 순번 (미포함)
+        private long toSeq; // 새로 읽은 순번 (포함)
+    }
+}
@@ -19,4 +19,12 @@ public class UserInfoResponse {
     private String userFace;
     private String userColor;
     private String userEmotion;
+
+    // user-service에 없는 회원(발신자)의 자리 표시용
+    public static UserInfoResponse unknown(Long userId) {
+        return UserInfoResponse.builder()
+                .userId(userId)
+                .userNickname("알 수 없음")
+                .build();
+    }
 }
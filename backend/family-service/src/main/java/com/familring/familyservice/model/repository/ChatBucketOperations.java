@@ -0,0 +1,202 @@
+package com.familring.familyservice.model.repository;
+
+import com.familring.familyservice.model.dto.chat.Chat;
+import com.familring.familyservice.model.dto.chat.ChatBucket;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+// chat_buckets 컬렉션 읽기/쓰기 - 채팅방마다 열린 버킷 하나에 채팅을 이어 붙이고 bucketSize개가 차면 새 버킷 생성
+@RequiredArgsConstructor
+class ChatBucketOperations {
+
+    // 최신순 (createdAt, chatId)
+    static final Comparator<Chat> NEWEST_FIRST = Comparator.comparing(Chat::getCreatedAt)
+            .thenComparing(Chat::getChatId)
+            .reversed();
+
+    // 순번 오름차순
+    static final Comparator<Chat> SEQ_ORDER = Comparator.comparingLong(Chat::getSeq);
+
+    private final MongoTemplate mongoTemplate;
+    private final int bucketSize;
+
+    // 같은 방의 채팅을 오래된 순으로 열린 버킷에 추가 - 버킷의 남은 자리만큼 나눠 넣고, 다 차면 새 버킷 생성
+    void append(Long roomId, List<Chat> chats) {
+        int appended = 0;
+        while (appended < chats.size()) {
+            appended += appendToOpenBucket(roomId, chats.subList(appended, chats.size()));
+        }
+    }
+
+    // 열린 버킷에 남은 자리만큼 추가하고 추가한 개수 반환
+    // 읽은 count가 그대로일 때만 추가 - 그 사이 다른 쪽에서 먼저 채웠으면 0을 반환해 다시 시도
+    private int appendToOpenBucket(Long roomId, List<Chat> chats) {
+        Query openBucket = new Query(Criteria.where("roomId").is(roomId)
+                .and("sealed").is(false)
+                .and("count").lt(bucketSize));
+        openBucket.fields().include("count");
+        ChatBucket bucket = mongoTemplate.findOne(openBucket, ChatBucket.class);
+
+        if (bucket == null) {
+            List<Chat> batch = new ArrayList<>(chats.subList(0, Math.min(bucketSize, chats.size())));
+            mongoTemplate.insert(ChatBucket.builder()
+                    .roomId(roomId)
+                    .startAt(batch.get(0).getCreatedAt())
+                    .endAt(batch.get(batch.size() - 1).getCreatedAt())
+                    .count(batch.size())
+                    .sealed(false)
+                    .messages(batch)
+                    .build());
+            return batch.size();
+        }
+
+        List<Chat> batch = chats.subList(0, Math.min(bucketSize - bucket.getCount(), chats.size()));
+        Query query = new Query(Criteria.where("_id").is(bucket.getBucketId())
+                .and("count").is(bucket.getCount()));
+        Update update = new Update()
+                .push("messages").each(batch.toArray())
+                .inc("count", batch.size())
+                .min("startAt", batch.get(0).getCreatedAt())
+                .max("endAt", batch.get(batch.size() - 1).getCreatedAt());
+
+        return mongoTemplate.updateFirst(query, update, ChatBucket.class).getModifiedCount() > 0 ? batch.size() : 0;
+    }
+
+    // 이전 채팅을 옮겨 닫힌 버킷으로 저장 - 첫 채팅 id로 버킷 id를 정해 재실행해도 중복 생성되지 않음
+    void saveSealed(Long roomId, List<Chat> chats) {
+        ChatBucket bucket = ChatBucket.builder()
+                .bucketId("legacy-" + chats.get(0).getChatId())
+                .roomId(roomId)
+                .startAt(chats.get(0).getCreatedAt())
+                .endAt(chats.get(chats.size() - 1).getCreatedAt())
+                .count(chats.size())
+                .sealed(true)
+                .messages(chats)
+                .build();
+
+        mongoTemplate.save(bucket);
+    }
+
+    List<Chat> findBefore(Long roomId, Chat before, int limit) {
+        Criteria criteria = Criteria.where("roomId").is(roomId);
+        if (before != null) {
+            criteria.and("startAt").lte(before.getCreatedAt());
+        }
+
+        // 최신 버킷부터 읽다가 limit개를 채웠고 다음 버킷이 모두 그보다 오래되었으면 중단
+        int bucketsPerQuery = limit / bucketSize + 2;
+        List<Chat> candidates = new ArrayList<>();
+        for (int skip = 0; ; skip += bucketsPerQuery) {
+            Query query = new Query(criteria)
+                    .with(Sort.by(Sort.Direction.DESC, "endAt"))
+                    .skip(skip)
+                    .limit(bucketsPerQuery);
+            List<ChatBucket> buckets = mongoTemplate.find(query, ChatBucket.class);
+
+            for (ChatBucket bucket : buckets) {
+                if (candidates.size() >= limit) {
+                    candidates.sort(NEWEST_FIRST);
+                    if (bucket.getEndAt().isBefore(candidates.get(limit - 1).getCreatedAt())) {
+                        return candidates.subList(0, limit);
+                    }
+                }
+                bucket.getMessages().stream()
+                        .filter(chat -> isBefore(chat, before))
+                        .forEach(candidates::add);
+            }
+
+            if (buckets.size() < bucketsPerQuery) {
+                break;
+            }
+        }
+
+        candidates.sort(NEWEST_FIRST);
+        return candidates.size() > limit ? candidates.subList(0, limit) : candidates;
+    }
+
+    // afterSeq 이후 채팅이 담긴 버킷을 오래된 순으로 읽다가 limit개를 채우면 중단
+    // 버킷은 채팅이 들어온 순서대로 채워지므로 뒤쪽 버킷의 채팅이 앞쪽 버킷보다 순번이 작지 않음
+    List<Chat> findAfterSeq(Long roomId, long afterSeq, int limit) {
+        Criteria criteria = Criteria.where("roomId").is(roomId).and("messages.seq").gt(afterSeq);
+
+        int bucketsPerQuery = limit / bucketSize + 2;
+        List<Chat> candidates = new ArrayList<>();
+        for (int skip = 0; candidates.size() < limit; skip += bucketsPerQuery) {
+            Query query = new Query(criteria)
+                    .with(Sort.by(Sort.Direction.ASC, "endAt"))
+                    .skip(skip)
+                    .limit(bucketsPerQuery);
+            List<ChatBucket> buckets = mongoTemplate.find(query, ChatBucket.class);
+
+            buckets.forEach(bucket -> bucket.getMessages().stream()
+                    .filter(chat -> chat.getSeq() > afterSeq)
+                    .forEach(candidates::add));
+
+            if (buckets.size() < bucketsPerQuery) {
+                break;
+            }
+        }
+
+        candidates.sort(SEQ_ORDER);
+        return candidates.size() > limit ? candidates.subList(0, limit) : candidates;
+    }
+
+    Optional<Chat> findChat(Long roomId, String chatId) {
+        Query query = new Query(Criteria.where("roomId").is(roomId).and("messages.chatId").is(chatId));
+        ChatBucket bucket = mongoTemplate.findOne(query, ChatBucket.class);
+        if (bucket == null) {
+            return Optional.empty();
+        }
+        return bucket.getMessages().stream()
+                .filter(chat -> chat.getChatId().equals(chatId))
+                .findFirst();
+    }
+
+    // 이전 채팅은 옮겨서 만든 닫힌 버킷에만 있으므로 그 버킷에서 순번 없는 채팅만 arrayFilters로 골라 $addToSet
+    long markLegacyAsRead(Long roomId, Long userId) {
+        Query query = new Query(Criteria.where("roomId").is(roomId).and("sealed").is(true));
+        Update update = new Update()
+                .addToSet("messages.$[message].readByUserIds", userId)
+                .filterArray(Criteria.where("message.seq").in(0L, null));
+
+        return mongoTemplate.updateMulti(query, update, ChatBucket.class).getModifiedCount();
+    }
+
+    long addReadByUserIds(Long roomId, String chatId, Collection<Long> userIds) {
+        Query query = new Query(Criteria.where("roomId").is(roomId).and("messages.chatId").is(chatId));
+        Update update = new Update().addToSet("messages.$.readByUserIds").each(userIds.toArray());
+
+        return mongoTemplate.updateFirst(query, update, ChatBucket.class).getModifiedCount();
+    }
+
+    // 버킷과 이전 채팅 문서에서 각각 조회한 결과 병합 (옮기는 중에 양쪽에 있는 채팅은 하나만)
+    static List<Chat> merge(List<Chat> bucketChats, List<Chat> documentChats, int limit) {
+        return merge(bucketChats, documentChats, NEWEST_FIRST, limit);
+    }
+
+    static List<Chat> merge(List<Chat> bucketChats, List<Chat> documentChats, Comparator<Chat> order, int limit) {
+        Map<String, Chat> merged = new LinkedHashMap<>();
+        bucketChats.forEach(chat -> merged.put(chat.getChatId(), chat));
+        documentChats.forEach(chat -> merged.putIfAbsent(chat.getChatId(), chat));
+
+        return merged.values().stream()
+                .sorted(order)
+                .limit(limit)
+                .collect(Collectors.toList());
+    }
+
+    private static boolean isBefore(Chat chat, Chat before) {
+        if (before == null) {
+            return true;
+        }
+        int compared = chat.getCreatedAt().compareTo(before.getCreatedAt());
+        return compared < 0 || (compared == 0 && chat.getChatId().compareTo(before.getChatId()) < 0);
+    }
+}
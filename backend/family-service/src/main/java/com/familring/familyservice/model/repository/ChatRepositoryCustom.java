@@ -0,0 +1,41 @@
+package com.familring.familyservice.model.repository;
+
+import com.familring.familyservice.model.dto.chat.Chat;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+// 채팅 저장 방식(chat.storage.layout)과 관계없이 사용하는 채팅 조회/저장
+public interface ChatRepositoryCustom {
+    // 같은 방의 채팅을 오래된 순으로 한 번에 저장
+    void insertChats(List<Chat> chats);
+
+    // 채팅 하나 저장 (이미 있으면 덮어씀)
+    void saveChat(Chat chat);
+
+    Optional<Chat> findChat(Long roomId, String chatId);
+
+    // 최신순 페이지 조회 (count 쿼리 없음)
+    Slice<Chat> findPageByRoomId(Long roomId, Pageable pageable);
+
+    // 순번 도입 이전 채팅(seq 없음 또는 0) 중 userId가 읽지 않은 채팅을 한 번에 읽음 처리
+    long markLegacyAsRead(Long roomId, Long userId);
+
+    // 채팅의 readByUserIds에 userIds를 한 번에 추가
+    long addReadByUserIds(Long roomId, String chatId, Collection<Long> userIds);
+
+    // before 채팅보다 이전 채팅을 최신순으로 limit개 조회 (before가 없으면 가장 최신부터)
+    List<Chat> findBefore(Long roomId, Chat before, int limit);
+
+    // afterSeq 순번 이후(미포함) 채팅을 순번 오름차순으로 limit개 조회
+    List<Chat> findAfterSeq(Long roomId, long afterSeq, int limit);
+
+    // chats 컬렉션에 채팅이 남아 있는 방 id 목록
+    List<Long> findLegacyRoomIds();
+
+    // chats 컬렉션의 가장 오래된 채팅을 버킷 하나로 옮기고 옮긴 채팅 수 반환
+    int moveOldestToBucket(Long roomId);
+}
@@ -0,0 +1,205 @@
+package com.familring.familyservice.model.repository;
+
+import com.familring.familyservice.model.dto.chat.Chat;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+// chat.storage.layout=document : 채팅 하나당 chats 문서 하나 (기본값)
+// chat.storage.layout=bucket   : 새 채팅은 chat_buckets에 N개씩 묶어서 저장하고, 조회는 옮기지 않은 chats 문서와 병합
+public class ChatRepositoryCustomImpl implements ChatRepositoryCustom {
+
+    private static final Sort NEWEST_FIRST = Sort.by(Sort.Order.desc("createdAt"), Sort.Order.desc("_id"));
+
+    private final MongoTemplate mongoTemplate;
+    private final ChatBucketOperations bucketOperations;
+    private final boolean bucketed;
+    private final int bucketSize;
+
+    public ChatRepositoryCustomImpl(MongoTemplate mongoTemplate,
+                                    @Value("${chat.storage.layout:document}") String layout,
+                                    @Value("${chat.storage.bucket-size:200}") int bucketSize) {
+        this.mongoTemplate = mongoTemplate;
+        this.bucketOperations = new ChatBucketOperations(mongoTemplate, bucketSize);
+        this.bucketed = "bucket".equalsIgnoreCase(layout);
+        this.bucketSize = bucketSize;
+    }
+
+    @Override
+    public void insertChats(List<Chat> chats) {
+        if (!bucketed) {
+            mongoTemplate.insert(chats, Chat.class);
+            return;
+        }
+
+        chats.stream()
+                .collect(Collectors.groupingBy(Chat::getRoomId, LinkedHashMap::new, Collectors.toList()))
+                .forEach(bucketOperations::append);
+    }
+
+    @Override
+    public void saveChat(Chat chat) {
+        if (!bucketed) {
+            mongoTemplate.save(chat);
+            return;
+        }
+
+        // 이미 버킷에 저장된 채팅은 다시 추가하지 않음
+        if (bucketOperations.findChat(chat.getRoomId(), chat.getChatId()).isEmpty()) {
+            bucketOperations.append(chat.getRoomId(), List.of(chat));
+        }
+    }
+
+    @Override
+    public Optional<Chat> findChat(Long roomId, String chatId) {
+        if (!ObjectId.isValid(chatId)) {
+            return Optional.empty();
+        }
+
+        Optional<Chat> chat = bucketed ? bucketOperations.findChat(roomId, chatId) : Optional.empty();
+        if (chat.isPresent()) {
+            return chat;
+        }
+
+        Query query = new Query(Criteria.where("_id").is(new ObjectId(chatId)).and("roomId").is(roomId));
+        return Optional.ofNullable(mongoTemplate.findOne(query, Chat.class));
+    }
+
+    @Override
+    public Slice<Chat> findPageByRoomId(Long roomId, Pageable pageable) {
+        // 다음 페이지 여부 확인을 위해 size + 1개 조회
+        int offset = (int) pageable.getOffset();
+        int size = pageable.getPageSize();
+
+        List<Chat> chats;
+        if (bucketed) {
+            chats = findBefore(roomId, null, offset + size + 1);
+            chats = chats.subList(Math.min(offset, chats.size()), chats.size());
+        } else {
+            Query query = new Query(Criteria.where("roomId").is(roomId))
+                    .with(NEWEST_FIRST)
+                    .skip(offset)
+                    .limit(size + 1);
+            chats = mongoTemplate.find(query, Chat.class);
+        }
+
+        boolean hasNext = chats.size() > size;
+        return new SliceImpl<>(hasNext ? chats.subList(0, size) : chats, pageable, hasNext);
+    }
+
+    @Override
+    public long markLegacyAsRead(Long roomId, Long userId) {
+        // readByUserIds로 읽은 수를 계산하는 이전 채팅만 골라 userId를 $addToSet (한 번의 updateMulti)
+        Query query = new Query(Criteria.where("roomId").is(roomId)
+                .and("seq").in(0L, null)
+                .and("readByUserIds").ne(userId));
+        Update update = new Update().addToSet("readByUserIds", userId);
+
+        long modifiedCount = mongoTemplate.updateMulti(query, update, Chat.class).getModifiedCount();
+        if (bucketed) {
+            modifiedCount += bucketOperations.markLegacyAsRead(roomId, userId);
+        }
+        return modifiedCount;
+    }
+
+    @Override
+    public long addReadByUserIds(Long roomId, String chatId, Collection<Long> userIds) {
+        Query query = new Query(Criteria.where("_id").is(new ObjectId(chatId)));
+        Update update = new Update().addToSet("readByUserIds").each(userIds.toArray());
+
+        long modifiedCount = mongoTemplate.updateFirst(query, update, Chat.class).getModifiedCount();
+        if (bucketed && modifiedCount == 0) {
+            modifiedCount = bucketOperations.addReadByUserIds(roomId, chatId, userIds);
+        }
+        return modifiedCount;
+    }
+
+    @Override
+    public List<Chat> findBefore(Long roomId, Chat before, int limit) {
+        Criteria criteria = Criteria.where("roomId").is(roomId);
+
+        // (createdAt, _id) 기준 keyset - 같은 시간에 생성된 채팅은 _id로 구분
+        if (before != null) {
+            criteria.orOperator(
+                    Criteria.where("createdAt").lt(before.getCreatedAt()),
+                    Criteria.where("createdAt").is(before.getCreatedAt())
+                            .and("_id").lt(new ObjectId(before.getChatId())));
+        }
+
+        Query query = new Query(criteria)
+                .with(NEWEST_FIRST)
+                .limit(limit);
+        List<Chat> documentChats = mongoTemplate.find(query, Chat.class);
+
+        if (!bucketed) {
+            return documentChats;
+        }
+        return ChatBucketOperations.merge(bucketOperations.findBefore(roomId, before, limit), documentChats, limit);
+    }
+
+    @Override
+    public List<Chat> findAfterSeq(Long roomId, long afterSeq, int limit) {
+        Query query = new Query(Criteria.where("roomId").is(roomId).and("seq").gt(afterSeq))
+                .with(Sort.by(Sort.Direction.ASC, "seq"))
+                .limit(limit);
+        List<Chat> documentChats = mongoTemplate.find(query, Chat.class);
+
+        if (!bucketed) {
+            return documentChats;
+        }
+        return ChatBucketOperations.merge(bucketOperations.findAfterSeq(roomId, afterSeq, limit), documentChats,
+                ChatBucketOperations.SEQ_ORDER, limit);
+    }
+
+    @Override
+    public List<Long> findLegacyRoomIds() {
+        return mongoTemplate.findDistinct(new Query(), "roomId", Chat.class, Long.class);
+    }
+
+    @Override
+    public int moveOldestToBucket(Long roomId) {
+        Query query = new Query(Criteria.where("roomId").is(roomId))
+                .with(Sort.by(Sort.Order.asc("createdAt"), Sort.Order.asc("_id")))
+                .limit(bucketSize);
+        List<Chat> chats = mongoTemplate.find(query, Chat.class);
+        if (chats.isEmpty()) {
+            return 0;
+        }
+
+        // 버킷을 먼저 저장한 뒤 원본 삭제 - 그 사이의 조회는 병합 과정에서 중복 제거
+        bucketOperations.saveSealed(roomId, chats);
+
+        /*
+        조회한 뒤 삭제하기 전까지 원본 문서에 추가된 읽음 처리($addToSet readByUserIds)는 버킷에 없음
+        원본을 하나씩 findAndRemove로 지우면서 삭제 직전 상태를 받아 늘어난 readByUserIds만 버킷에 다시 반영
+        (삭제된 뒤의 읽음 처리는 원본이 없으므로 addReadByUserIds, markLegacyAsRead가 버킷에 바로 반영)
+         */
+        for (Chat chat : chats) {
+            Query original = new Query(Criteria.where("_id").is(new ObjectId(chat.getChatId())));
+            Chat removed = mongoTemplate.findAndRemove(original, Chat.class);
+            if (removed == null || removed.getReadByUserIds() == null) {
+                continue;
+            }
+
+            Set<Long> addedUserIds = new HashSet<>(removed.getReadByUserIds());
+            if (chat.getReadByUserIds() != null) {
+                addedUserIds.removeAll(chat.getReadByUserIds());
+            }
+            if (!addedUserIds.isEmpty()) {
+                bucketOperations.addReadByUserIds(roomId, chat.getChatId(), addedUserIds);
+            }
+        }
+
+        return chats.size();
+    }
+}
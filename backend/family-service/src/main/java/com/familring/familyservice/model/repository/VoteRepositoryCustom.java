@@ -0,0 +1,14 @@
+package com.familring.familyservice.model.repository;
+
+import com.familring.familyservice.model.dto.chat.Vote;
+
+import java.util.Optional;
+
+public interface VoteRepositoryCustom {
+    // choice는 Vote.OPTIONS 중 하나여야 함
+    // 아직 투표하지 않은 userId의 선택을 원자적으로 추가하고 집계, 추가된 후의 투표 반환 (이미 참여했거나 종료된 경우 empty)
+    Optional<Vote> addChoice(String voteId, Long userId, String choice);
+
+    // 투표 종료 처리 - 종료 처리에 성공한 경우에만 true (한 번만 성공)
+    boolean complete(String voteId);
+}
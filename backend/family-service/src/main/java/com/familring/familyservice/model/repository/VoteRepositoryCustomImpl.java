@@ -0,0 +1,43 @@
+package com.familring.familyservice.model.repository;
+
+import com.familring.familyservice.model.dto.chat.Vote;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.util.Optional;
+
+@RequiredArgsConstructor
+public class VoteRepositoryCustomImpl implements VoteRepositoryCustom {
+
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public Optional<Vote> addChoice(String voteId, Long userId, String choice) {
+        // choice가 필드 경로에 들어가므로 '.', '$', 빈 문자열 등은 다른 경로를 갱신할 수 있음
+        if (!Vote.isOption(choice)) {
+            throw new IllegalArgumentException("허용되지 않은 투표 선택지입니다: " + choice);
+        }
+
+        Query query = new Query(Criteria.where("_id").is(voteId)
+                .and("isCompleted").is(false)
+                .and("choices." + userId).exists(false));
+        Update update = new Update()
+                .set("choices." + userId, choice)
+                .inc("voteResult." + choice, 1);
+
+        return Optional.ofNullable(mongoTemplate.findAndModify(query, update,
+                FindAndModifyOptions.options().returnNew(true), Vote.class));
+    }
+
+    @Override
+    public boolean complete(String voteId) {
+        Query query = new Query(Criteria.where("_id").is(voteId).and("isCompleted").is(false));
+        Update update = new Update().set("isCompleted", true);
+
+        return mongoTemplate.updateFirst(query, update, Vote.class).getModifiedCount() == 1;
+    }
+}
@@ -0,0 +1,86 @@
+package com.familring.familyservice.service.chat;
+
+import com.familring.familyservice.config.redis.RedisUtil;
+import com.familring.familyservice.model.repository.ChatRepository;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+// chats 컬렉션의 채팅을 방마다 오래된 순으로 chat_buckets로 옮기는 작업 (chat.storage.layout=bucket 일 때만)
+// 버킷 저장 후 원본을 삭제하고, 조회는 양쪽을 병합하므로 서비스 중에도 실행 가능
+@Component
+@Log4j2
+public class ChatBucketMigrationJob {
+
+    private static final String LOCK_KEY = "CHAT_BUCKET_MIGRATION_LOCK";
+
+    private final RedisUtil redisUtil;
+    private final ChatRepository chatRepository;
+    private final boolean enabled;
+    private final long pauseMillis;
+
+    public ChatBucketMigrationJob(RedisUtil redisUtil,
+                                  ChatRepository chatRepository,
+                                  @Value("${chat.storage.layout:document}") String layout,
+                                  @Value("${chat.storage.migration.enabled:false}") boolean migrationEnabled,
+                                  @Value("${chat.storage.migration.pause-millis:100}") long pauseMillis) {
+        this.redisUtil = redisUtil;
+        this.chatRepository = chatRepository;
+        this.enabled = migrationEnabled && "bucket".equalsIgnoreCase(layout);
+        this.pauseMillis = pauseMillis;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void migrateOnStartup() {
+        if (!enabled) {
+            return;
+        }
+        CompletableFuture.runAsync(this::migrate)
+                .exceptionally(e -> {
+                    log.error("[migrateOnStartup] 채팅 버킷 이동 실패", e);
+                    return null;
+                });
+    }
+
+    public void migrate() {
+        // 여러 인스턴스가 동시에 실행하지 않도록 잠금
+        if (!Boolean.TRUE.equals(redisUtil.setStringIfAbsent(LOCK_KEY, "1", Duration.ofHours(6)))) {
+            log.info("[migrate] 다른 인스턴스에서 채팅 버킷 이동 중");
+            return;
+        }
+
+        try {
+            List<Long> roomIds = chatRepository.findLegacyRoomIds();
+            log.info("[migrate] 채팅 버킷 이동 시작 rooms={}", roomIds.size());
+
+            long total = 0;
+            for (Long roomId : roomIds) {
+                long moved = 0;
+                int count;
+                while ((count = chatRepository.moveOldestToBucket(roomId)) > 0) {
+                    moved += count;
+                    pause(); // 서비스 트래픽에 영향을 주지 않도록 버킷 단위로 쉬어 감
+                }
+                total += moved;
+                log.info("[migrate] roomId={} 채팅 {}개 이동 완료", roomId, moved);
+            }
+            log.info("[migrate] 채팅 버킷 이동 완료 total={}", total);
+        } finally {
+            redisUtil.deleteString(LOCK_KEY);
+        }
+    }
+
+    private void pause() {
+        try {
+            Thread.sleep(pauseMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,220 @@
+package com.familring.familyservice.service.chat;
+
+import com.familring.familyservice.exception.chat.ChatPersistenceBusyException;
+import com.familring.familyservice.model.dto.chat.Chat;
+import com.familring.familyservice.model.repository.ChatRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+/*
+채팅 write-behind 저장소 - 방 단위로 순서를 지키며 묶어서 저장 (insertMany 또는 버킷에 한 번에 추가)
+- 대기열이 가득 차면 offerTimeoutMillis 동안 발신 쓰레드를 기다리게 하고, 그래도 자리가 없으면 ChatPersistenceBusyException
+  (호출한 쓰레드에서 바로 저장하면 대기 중인 같은 방 채팅보다 먼저 저장되므로 하지 않음)
+- 종료 중에는 대기열 끝에 넣고 호출한 쓰레드가 그 방의 대기열을 순서대로 비움
+- 저장에 실패한 채팅은 maxAttempts번까지 재시도하며, 그동안 같은 방의 다음 채팅은 저장하지 않음
+  끝내 실패하면 chat.persistence.failed 지표와 error 로그로 남김
+- 저장 전인 채팅도 findPending으로 조회 가능
+ */
+@Component
+@Log4j2
+public class ChatPersistencePipeline {
+
+    private final ChatRepository chatRepository;
+    private final Executor executor;
+    private final int capacity;
+    private final int batchSize;
+    private final long offerTimeoutMillis;
+    private final long shutdownTimeoutMillis;
+    private final int maxAttempts;
+    private final long retryBackoffMillis;
+
+    private final Semaphore permits; // 저장 대기 중인 채팅 수 제한 (backpressure)
+    private final Map<Long, RoomQueue> roomQueues = new ConcurrentHashMap<>();
+    private volatile boolean shuttingDown = false;
+    private final Counter failedCounter;
+
+    public ChatPersistencePipeline(ChatRepository chatRepository,
+                                   @Qualifier("chatPersistenceExecutor") Executor executor,
+                                   MeterRegistry meterRegistry,
+                                   @Value("${chat.persistence.capacity:10000}") int capacity,
+                                   @Value("${chat.persistence.batch-size:100}") int batchSize,
+                                   @Value("${chat.persistence.offer-timeout-millis:1000}") long offerTimeoutMillis,
+                                   @Value("${chat.persistence.shutdown-timeout-millis:10000}") long shutdownTimeoutMillis,
+                                   @Value("${chat.persistence.max-attempts:5}") int maxAttempts,
+                                   @Value("${chat.persistence.retry-backoff-millis:100}") long retryBackoffMillis) {
+        this.chatRepository = chatRepository;
+        this.executor = executor;
+        this.capacity = capacity;
+        this.batchSize = batchSize;
+        this.offerTimeoutMillis = offerTimeoutMillis;
+        this.shutdownTimeoutMillis = shutdownTimeoutMillis;
+        this.maxAttempts = Math.max(maxAttempts, 1);
+        this.retryBackoffMillis = retryBackoffMillis;
+        this.permits = new Semaphore(capacity);
+
+        Gauge.builder("chat.persistence.pending", this, ChatPersistencePipeline::pendingCount)
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("chat.persistence.failed")
+                .description("재시도 후에도 저장하지 못한 채팅 수")
+                .register(meterRegistry);
+    }
+
+    public void enqueue(Chat chat) {
+        // 대기열이 가득 차면 자리가 날 때까지 발신 쓰레드를 기다리게 함 (backpressure)
+        if (!tryAcquire()) {
+            log.warn("[enqueue] 저장 대기열이 가득 참 roomId={}, chatId={}, pending={}", chat.getRoomId(), chat.getChatId(), pendingCount());
+            throw new ChatPersistenceBusyException();
+        }
+
+        RoomQueue roomQueue = roomQueues.computeIfAbsent(chat.getRoomId(), roomId -> new RoomQueue());
+        roomQueue.chats.add(chat);
+
+        if (shuttingDown) {
+            // 대기열 끝에 넣은 뒤 호출한 쓰레드가 직접 비움 (다른 쓰레드가 비우는 중이면 그 쓰레드가 저장)
+            if (roomQueue.draining.compareAndSet(false, true)) {
+                drain(roomQueue);
+            }
+            return;
+        }
+        schedule(roomQueue);
+    }
+
+    // 아직 저장되지 않은 채팅 조회 (저장 중인 채팅 포함)
+    public Optional<Chat> findPending(Long roomId, String chatId) {
+        RoomQueue roomQueue = roomQueues.get(roomId);
+        if (roomQueue == null) {
+            return Optional.empty();
+        }
+        return roomQueue.pendingChats()
+                .filter(chat -> chat.getChatId().equals(chatId))
+                .findFirst();
+    }
+
+    public int pendingCount() {
+        return capacity - permits.availablePermits();
+    }
+
+    @PreDestroy
+    public void flush() {
+        shuttingDown = true;
+        log.info("[flush] 종료 전 저장 대기 중인 채팅 저장 pending={}", pendingCount());
+
+        long deadline = System.currentTimeMillis() + shutdownTimeoutMillis;
+        while (pendingCount() > 0 && System.currentTimeMillis() < deadline) {
+            for (RoomQueue roomQueue : roomQueues.values()) {
+                if (roomQueue.draining.compareAndSet(false, true)) {
+                    drain(roomQueue);
+                }
+            }
+            sleepQuietly();
+        }
+
+        if (pendingCount() > 0) {
+            log.error("[flush] 저장하지 못한 채팅이 남아 있습니다 pending={}", pendingCount());
+        }
+    }
+
+    private boolean tryAcquire() {
+        try {
+            return permits.tryAcquire(offerTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    // 방마다 동시에 하나의 drain 작업만 실행해 저장 순서 보장
+    private void schedule(RoomQueue roomQueue) {
+        if (roomQueue.draining.compareAndSet(false, true)) {
+            executor.execute(() -> drain(roomQueue));
+        }
+    }
+
+    private void drain(RoomQueue roomQueue) {
+        try {
+            List<Chat> batch = poll(roomQueue);
+            while (!batch.isEmpty()) {
+                roomQueue.inFlight = batch;
+                persist(batch);
+                roomQueue.inFlight = List.of();
+                permits.release(batch.size());
+                batch = poll(roomQueue);
+            }
+        } finally {
+            roomQueue.inFlight = List.of();
+            roomQueue.draining.set(false);
+            // drain 종료 직전에 들어온 채팅 처리
+            if (!roomQueue.chats.isEmpty() && !shuttingDown) {
+                schedule(roomQueue);
+            }
+        }
+    }
+
+    private List<Chat> poll(RoomQueue roomQueue) {
+        List<Chat> batch = new ArrayList<>();
+        Chat chat;
+        while (batch.size() < batchSize && (chat = roomQueue.chats.poll()) != null) {
+            batch.add(chat);
+        }
+        return batch;
+    }
+
+    private void persist(List<Chat> batch) {
+        try {
+            chatRepository.insertChats(batch);
+        } catch (Exception e) {
+            // 일부만 저장된 경우를 고려해 개별 upsert로 재시도 (순서대로, 실패한 채팅은 저장될 때까지 다음 채팅을 기다리게 함)
+            log.error("[persist] 채팅 일괄 저장 실패, 개별 저장 재시도 size={}", batch.size(), e);
+            batch.forEach(this::saveWithRetry);
+        }
+    }
+
+    private void saveWithRetry(Chat chat) {
+        for (int attempt = 1; attempt <= maxAttempts; attempt++) {
+            try {
+                chatRepository.saveChat(chat);
+                return;
+            } catch (Exception e) {
+                log.warn("[saveWithRetry] 채팅 저장 실패 chatId={}, attempt={}/{}", chat.getChatId(), attempt, maxAttempts, e);
+                if (attempt < maxAttempts) {
+                    sleepQuietly(retryBackoffMillis << (attempt - 1));
+                }
+            }
+        }
+        failedCounter.increment();
+        log.error("[saveWithRetry] 채팅 저장 최종 실패 chat={}", chat);
+    }
+
+    private void sleepQuietly() {
+        sleepQuietly(10);
+    }
+
+    private void sleepQuietly(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static class RoomQueue {
+        private final Queue<Chat> chats = new ConcurrentLinkedQueue<>();
+        private final AtomicBoolean draining = new AtomicBoolean(false);
+        private volatile List<Chat> inFlight = List.of(); // 대기열에서 꺼내 저장 중인 채팅
+
+        private Stream<Chat> pendingChats() {
+            return Stream.concat(inFlight.stream(), chats.stream());
+        }
+    }
+}
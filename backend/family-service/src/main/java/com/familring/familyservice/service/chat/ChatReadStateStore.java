@@ -0,0 +1,164 @@
+package com.familring.familyservice.service.chat;
+
+import com.familring.familyservice.config.redis.RedisUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.Value;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+
+// 채팅방 단위 읽음 상태 저장소
+// CHAT_READ_STATE_{roomId} 해시 하나에 방의 메시지 순번(seq)과 회원별 마지막으로 읽은 순번을 저장
+// 메시지마다 키를 만들지 않으므로 Redis 사용량은 방 수 × 구성원 수에 비례
+@Component
+@RequiredArgsConstructor
+@Log4j2
+public class ChatReadStateStore {
+
+    private static final String SEQ_FIELD = "seq";
+
+    // 방의 메시지 순번을 증가시키고 현재 방에 접속 중인 회원들을 그 순번까지 읽음 처리
+    // KEYS[1]은 접속자 ZSET (member = "{userId}|{sessionId}", score = 임대 만료 시각), 만료된 임대는 제외
+    // 반환값: [순번, 회원 id, 이전에 읽은 순번, 회원 id, 이전에 읽은 순번...]
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> NEXT_SEQ_SCRIPT = RedisScript.of(
+            "local seq = redis.call('HINCRBY', KEYS[2], 'seq', 1) " +
+            "redis.call('ZREMRANGEBYSCORE', KEYS[1], '-inf', ARGV[1]) " +
+            "local result = { tostring(seq) } " +
+            "local marked = {} " +
+            "for _, member in ipairs(redis.call('ZRANGE', KEYS[1], 0, -1)) do " +
+            "  local userId = string.match(member, '^[^|]+') " +
+            "  if not marked[userId] then " +
+            "    marked[userId] = true " +
+            "    local previous = redis.call('HGET', KEYS[2], userId) or '0' " +
+            "    redis.call('HSET', KEYS[2], userId, seq) " +
+            "    table.insert(result, userId) " +
+            "    table.insert(result, previous) " +
+            "  end " +
+            "end " +
+            "return result", List.class);
+
+    // ARGV[1] 회원을 방의 최신 순번까지 읽음 처리, 더 작은 값으로는 되돌리지 않음
+    // 반환값: [이전에 읽은 순번, 현재 읽은 순번]
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> MARK_READ_SCRIPT = RedisScript.of(
+            "local target = tonumber(redis.call('HGET', KEYS[1], 'seq')) or 0 " +
+            "local current = tonumber(redis.call('HGET', KEYS[1], ARGV[1])) or 0 " +
+            "if target > current then redis.call('HSET', KEYS[1], ARGV[1], target) else target = current end " +
+            "return { tostring(current), tostring(target) }", List.class);
+
+    // ARGV[1] 회원을 ARGV[2] 순번까지 읽음 처리한 뒤 (ARGV[1]이 비어 있으면 생략) ARGV[2] 순번을 읽은 회원 수 반환
+    private static final RedisScript<Long> MARK_READ_AND_COUNT_SCRIPT = RedisScript.of(
+            "local seq = tonumber(ARGV[2]) " +
+            "if ARGV[1] ~= '' then " +
+            "  local current = tonumber(redis.call('HGET', KEYS[1], ARGV[1])) or 0 " +
+            "  if seq > current then redis.call('HSET', KEYS[1], ARGV[1], seq) end " +
+            "end " +
+            "local entries = redis.call('HGETALL', KEYS[1]) " +
+            "local count = 0 " +
+            "for i = 1, #entries, 2 do " +
+            "  if entries[i] ~= 'seq' and tonumber(entries[i + 1]) >= seq then count = count + 1 end " +
+            "end " +
+            "return count", Long.class);
+
+    private final RedisUtil redisUtil;
+
+    // 새 메시지의 순번 발급 + 접속 중인 회원 읽음 처리 (Redis 왕복 1회)
+    @SuppressWarnings("unchecked")
+    public ReadState nextSeq(Long roomId) {
+        List<String> result = redisUtil.executeScript("nextSeq", NEXT_SEQ_SCRIPT,
+                List.of(RoomPresenceService.presenceKey(roomId), readStateKey(roomId)),
+                String.valueOf(System.currentTimeMillis()));
+
+        long seq = Long.parseLong(result.get(0));
+        Map<Long, Long> previousReadSeqs = new HashMap<>();
+        for (int i = 1; i + 1 < result.size(); i += 2) {
+            previousReadSeqs.put(Long.valueOf(result.get(i)), Long.valueOf(result.get(i + 1)));
+        }
+        return new ReadState(seq, new HashSet<>(previousReadSeqs.keySet()), previousReadSeqs);
+    }
+
+    // 방의 최신 메시지까지 읽음 처리하고 새로 읽은 구간 반환
+    @SuppressWarnings("unchecked")
+    public ReadRange markAllAsRead(Long roomId, Long userId) {
+        List<String> result = redisUtil.executeScript("markRead", MARK_READ_SCRIPT,
+                List.of(readStateKey(roomId)), String.valueOf(userId));
+        return new ReadRange(userId, Long.parseLong(result.get(0)), Long.parseLong(result.get(1)));
+    }
+
+    // seq 메시지를 읽은 회원 수 조회 (readerId가 있으면 먼저 읽음 처리)
+    public long countReaders(Long roomId, long seq, Long readerId) {
+        Long count = redisUtil.executeScript("countReaders", MARK_READ_AND_COUNT_SCRIPT,
+                List.of(readStateKey(roomId)), readerId == null ? "" : String.valueOf(readerId), String.valueOf(seq));
+        return count == null ? 0L : count;
+    }
+
+    // 회원별 마지막으로 읽은 순번 조회 - 페이지 단위로 한 번만 조회해서 메시지별 읽은 수 계산에 사용
+    public ReadCounter getReadCounter(Long roomId) {
+        return ReadCounter.of(getLastReadSeqs(roomId).values());
+    }
+
+    // userId -> 마지막으로 읽은 순번
+    public Map<Long, Long> getLastReadSeqs(Long roomId) {
+        Map<String, String> entries = redisUtil.getHashEntries(readStateKey(roomId));
+        Map<Long, Long> lastReadSeqs = new HashMap<>();
+        entries.forEach((field, value) -> {
+            if (!SEQ_FIELD.equals(field)) {
+                lastReadSeqs.put(Long.valueOf(field), Long.valueOf(value));
+            }
+        });
+        return lastReadSeqs;
+    }
+
+    private String readStateKey(Long roomId) {
+        return "CHAT_READ_STATE_" + roomId;
+    }
+
+    @Value
+    public static class ReadState {
+        long seq; // 발급된 메시지 순번
+        Set<Long> readByUserIds; // 발급 시점에 접속 중이라 바로 읽음 처리된 회원
+        Map<Long, Long> previousReadSeqs; // 읽음 처리된 회원별 이전에 읽은 순번
+    }
+
+    // userId 회원이 (fromSeq, toSeq] 구간의 메시지를 새로 읽음
+    @Value
+    public static class ReadRange {
+        Long userId;
+        long fromSeq;
+        long toSeq;
+
+        public boolean isEmpty() {
+            return toSeq <= fromSeq;
+        }
+    }
+
+    @RequiredArgsConstructor
+    public static class ReadCounter {
+        private final long[] lastReadSeqs; // 오름차순 정렬
+
+        public static ReadCounter of(Collection<Long> lastReadSeqs) {
+            return new ReadCounter(lastReadSeqs.stream()
+                    .mapToLong(Long::longValue)
+                    .sorted()
+                    .toArray());
+        }
+
+        // seq 이상까지 읽은 회원 수
+        public int countReaders(long seq) {
+            int low = 0;
+            int high = lastReadSeqs.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (lastReadSeqs[mid] < seq) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return lastReadSeqs.length - low;
+        }
+    }
+}
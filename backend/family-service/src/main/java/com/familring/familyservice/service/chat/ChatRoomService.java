@@ -1,15 +1,23 @@
 package com.familring.familyservice.service.chat;
 
+import com.familring.familyservice.model.dto.response.ChatPageResponse;
 import com.familring.familyservice.model.dto.response.ChatResponse;
-import org.springframework.data.domain.Page;
+import com.familring.familyservice.model.dto.response.ChatSyncResponse;
+import org.springframework.data.domain.Slice;
 
 import java.util.List;
 
 public interface ChatRoomService {
 
-    Page<ChatResponse> findPagedChatByRoomId(Long roomId, Long userId, int page, int size);
+    Slice<ChatResponse> findPagedChatByRoomId(Long roomId, Long userId, int page, int size);
 
-    void notifyReadStatusUpdate(Long roomId);
+    ChatPageResponse findChatBeforeCursor(Long roomId, Long userId, String beforeChatId, int size);
+
+    ChatSyncResponse syncChat(Long roomId, Long userId, long version, int size);
+
+    void markMessagesAsRead(Long roomId, Long userId);
+
+    void notifyReadStatusUpdate(Long roomId, Long userId, long fromSeq, long toSeq);
 
     void notifyRoomExit(Long roomId, Long userId);
 }
@@ -1,22 +1,32 @@
 package com.familring.familyservice.service.chat;
 
-import com.familring.familyservice.config.redis.RedisUtil;
+import com.familring.familyservice.exception.chat.ChatNotFoundException;
 import com.familring.familyservice.exception.chat.VoteNotFoundException;
 import com.familring.familyservice.model.dto.chat.Chat;
 import com.familring.familyservice.model.dto.chat.MessageType;
 import com.familring.familyservice.model.dto.chat.Vote;
+import com.familring.familyservice.model.dto.response.ChatPageResponse;
 import com.familring.familyservice.model.dto.response.ChatResponse;
+import com.familring.familyservice.model.dto.response.ChatSyncResponse;
 import com.familring.familyservice.model.dto.response.UserInfoResponse;
 import com.familring.familyservice.model.repository.ChatRepository;
 import com.familring.familyservice.model.repository.VoteRepository;
-import com.familring.familyservice.service.client.UserServiceFeignClient;
+import com.familring.familyservice.service.client.UserInfoCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.*;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -24,27 +34,147 @@ import java.util.stream.Collectors;
 @Log4j2
 public class ChatRoomServiceImpl implements ChatRoomService {
 
+    private static final int MAX_SYNC_SIZE = 500;
+
+    private final ChatReadStateStore chatReadStateStore;
+
     private final ChatRepository chatRepository;
     private final VoteRepository voteRepository;
-    private final UserServiceFeignClient userServiceFeignClient;
+    private final UserInfoCache userInfoCache;
     private final NotificationService notificationService;
+    private final ChatPersistencePipeline chatPersistencePipeline;
+
+    // 빠진 순번을 기다리는 시간 - 뒤 순번 채팅이 이보다 오래되었으면 빠진 순번은 저장되지 않은 것으로 보고 건너뜀
+    @Value("${chat.sync.gap-timeout-millis:30000}")
+    private long syncGapTimeoutMillis;
 
     @Override
-    public Page<ChatResponse> findPagedChatByRoomId(Long roomId, Long userId, int page, int size) {
+    public Slice<ChatResponse> findPagedChatByRoomId(Long roomId, Long userId, int page, int size) {
         log.info("[findPagedChatByRoomId] 채팅 찾기 roomId={}, userId={}, page={}, size={}", roomId, userId, page, size);
 
         Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "createdAt"));
-        Page<Chat> chatPage = chatRepository.findByRoomId(roomId, pageable);
+        Slice<Chat> chatSlice = chatRepository.findPageByRoomId(roomId, pageable);
+
+        return new SliceImpl<>(toChatResponses(roomId, chatSlice.getContent()), pageable, chatSlice.hasNext());
+    }
+
+    @Override
+    public ChatPageResponse findChatBeforeCursor(Long roomId, Long userId, String beforeChatId, int size) {
+        log.info("[findChatBeforeCursor] 채팅 찾기 roomId={}, userId={}, beforeChatId={}, size={}", roomId, userId, beforeChatId, size);
+
+        Chat before = null;
+        if (beforeChatId != null) {
+            // 아직 저장 대기 중인 채팅이 커서일 수도 있음
+            before = chatRepository.findChat(roomId, beforeChatId)
+                    .or(() -> chatPersistencePipeline.findPending(roomId, beforeChatId))
+                    .orElseThrow(ChatNotFoundException::new);
+        }
+
+        // 다음 페이지 여부 확인을 위해 size + 1개 조회 (count 쿼리 없음)
+        List<Chat> chats = chatRepository.findBefore(roomId, before, size + 1);
+        boolean hasNext = chats.size() > size;
+        if (hasNext) {
+            chats = chats.subList(0, size);
+        }
+
+        return ChatPageResponse.builder()
+                .hasNext(hasNext)
+                .chatList(toChatResponses(roomId, chats))
+                .build();
+    }
+
+    @Override
+    public ChatSyncResponse syncChat(Long roomId, Long userId, long version, int size) {
+        log.info("[syncChat] 채팅 동기화 roomId={}, userId={}, version={}, size={}", roomId, userId, version, size);
+        size = Math.min(Math.max(size, 1), MAX_SYNC_SIZE);
+
+        // 다음 요청 필요 여부 확인을 위해 size + 1개 조회
+        List<Chat> chats = chatRepository.findAfterSeq(roomId, Math.max(version, 0L), size + 1);
+        boolean hasMore = chats.size() > size;
+        if (hasMore) {
+            chats = chats.subList(0, size);
+        }
+
+        /*
+        순번은 발급 순서대로 저장되지 않을 수 있음 (저장 대기 중인 채팅, 다른 인스턴스가 저장한 채팅)
+        version 바로 다음부터 빠짐없이 이어진 순번까지만 보내고 버전도 그 끝으로 정함 - 빠진 순번은 다음 동기화에서 전송
+         */
+        int contiguous = contiguousCount(chats, version);
+        if (contiguous < chats.size()) {
+            chats = chats.subList(0, contiguous);
+            hasMore = false; // 빠진 순번이 저장될 때까지 바로 다시 요청하지 않음
+        }
+        long nextVersion = chats.isEmpty() ? version : chats.get(chats.size() - 1).getSeq();
+
+        Map<Long, Long> readSeqs = chatReadStateStore.getLastReadSeqs(roomId);
+        List<ChatResponse> chatList = toChatResponses(chats, ChatReadStateStore.ReadCounter.of(readSeqs.values()));
+
+        // 투표 상태는 투표/응답/결과 채팅이 생길 때만 바뀌므로 새 채팅이 참조하는 투표만 전송
+        Map<String, Vote> votes = new LinkedHashMap<>();
+        chatList.stream()
+                .map(ChatResponse::getVote)
+                .filter(Objects::nonNull)
+                .forEach(vote -> votes.put(vote.getVoteId(), vote));
 
-        List<ChatResponse> responseList = chatPage.getContent().stream().map(chat -> {
-            UserInfoResponse user = userServiceFeignClient.getUser(chat.getSenderId()).getData();
-            int unReadMembers = (int) (chat.getFamilyCount() - chat.getReadByUserIds().size());
+        log.info("[syncChat] 채팅 동기화 완료 roomId={}, {}개의 채팅, version={} -> {}, hasMore={}", roomId, chatList.size(), version, nextVersion, hasMore);
+        return ChatSyncResponse.builder()
+                .version(nextVersion)
+                .hasMore(hasMore)
+                .chatList(chatList)
+                .readSeqs(readSeqs)
+                .votes(List.copyOf(votes.values()))
+                .build();
+    }
+
+    // version 이후 순번이 이어지는 채팅 수 (순번 오름차순)
+    // 빠진 순번 뒤의 채팅이 syncGapTimeoutMillis보다 오래되었으면 빠진 순번은 발급 후 저장되지 않은 것으로 보고 이어 붙임
+    private int contiguousCount(List<Chat> chats, long version) {
+        LocalDateTime settledBefore = LocalDateTime.now().minus(Duration.ofMillis(syncGapTimeoutMillis));
+        long expectedSeq = Math.max(version, 0L) + 1;
+
+        int count = 0;
+        for (Chat chat : chats) {
+            if (chat.getSeq() != expectedSeq && !chat.getCreatedAt().isBefore(settledBefore)) {
+                break;
+            }
+            expectedSeq = chat.getSeq() + 1;
+            count++;
+        }
+        return count;
+    }
+
+    private List<ChatResponse> toChatResponses(Long roomId, List<Chat> chats) {
+        // 회원별 마지막으로 읽은 순번을 한 번만 조회해서 채팅별 읽은 수 계산
+        return toChatResponses(chats, chatReadStateStore.getReadCounter(roomId));
+    }
+
+    private List<ChatResponse> toChatResponses(List<Chat> chats, ChatReadStateStore.ReadCounter readCounter) {
+        // 페이지 단위로 발신자, 투표를 한 번에 조회
+        Map<Long, UserInfoResponse> users = userInfoCache.getUsers(chats.stream()
+                .map(Chat::getSenderId)
+                .collect(Collectors.toSet()));
+
+        Set<String> voteIds = chats.stream()
+                .filter(chat -> isVoteMessage(chat.getMessageType()))
+                .map(Chat::getVoteId)
+                .collect(Collectors.toSet());
+        Map<String, Vote> votes = voteIds.isEmpty() ? Map.of() : voteRepository.findAllById(voteIds).stream()
+                .collect(Collectors.toMap(Vote::getVoteId, Function.identity()));
+
+        return chats.stream().map(chat -> {
+            // user-service에서 찾을 수 없는 발신자는 자리 표시용 회원으로 응답
+            UserInfoResponse user = users.getOrDefault(chat.getSenderId(), UserInfoResponse.unknown(chat.getSenderId()));
+            int readCount = chat.getSeq() > 0
+                    ? readCounter.countReaders(chat.getSeq())
+                    : chat.getReadByUserIds().size(); // 순번 도입 이전 채팅
+            int unReadMembers = chat.getFamilyCount() - readCount;
             unReadMembers = Math.max(unReadMembers, 0);
 
             ChatResponse chatResponse = new ChatResponse(
                     chat.getChatId(),
                     chat.getRoomId(),
                     chat.getMessageType(),
+                    chat.getSeq(),
                     chat.getSenderId(),
                     user,
                     chat.getContent(),
@@ -56,21 +186,40 @@ public class ChatRoomServiceImpl implements ChatRoomService {
                     unReadMembers
             );
 
-            if (chat.getMessageType().equals(MessageType.VOTE) ||
-                    chat.getMessageType().equals(MessageType.VOTE_RESPONSE) ||
-                    chat.getMessageType().equals(MessageType.VOTE_RESULT)) {
-                Vote vote = voteRepository.findByVoteId(chat.getVoteId()).orElseThrow(VoteNotFoundException::new);
+            if (isVoteMessage(chat.getMessageType())) {
+                Vote vote = votes.get(chat.getVoteId());
+                if (vote == null) {
+                    throw new VoteNotFoundException();
+                }
                 chatResponse.setVote(vote);
             }
             return chatResponse;
         }).collect(Collectors.toList());
+    }
+
+    private boolean isVoteMessage(MessageType messageType) {
+        return messageType.equals(MessageType.VOTE) ||
+                messageType.equals(MessageType.VOTE_RESPONSE) ||
+                messageType.equals(MessageType.VOTE_RESULT);
+    }
+
+    @Override
+    public void markMessagesAsRead(Long roomId, Long userId) {
+        // 방 단위 읽음 상태를 최신 순번까지 갱신 (읽은 수는 순번으로 계산하므로 채팅 문서는 고치지 않음)
+        ChatReadStateStore.ReadRange readRange = chatReadStateStore.markAllAsRead(roomId, userId);
+
+        // 순번 도입 이전 채팅은 readByUserIds로 읽은 수를 계산 - 이전에 읽은 순번이 없을 때(순번 도입 후 첫 입장)만 읽음 처리
+        long legacyCount = readRange.getFromSeq() == 0 ? chatRepository.markLegacyAsRead(roomId, userId) : 0;
+        log.info("[markMessagesAsRead] userId={}가 roomId={}에서 읽음 처리함 (readRange={}, 이전 채팅 {}개)", userId, roomId, readRange, legacyCount);
 
-        return new PageImpl<>(responseList, pageable, chatPage.getTotalElements());
+        if (!readRange.isEmpty()) {
+            notifyReadStatusUpdate(roomId, userId, readRange.getFromSeq(), readRange.getToSeq());
+        }
     }
 
     @Override
-    public void notifyReadStatusUpdate(Long roomId) {
-        notificationService.notifyReadStatusUpdate(roomId);
+    public void notifyReadStatusUpdate(Long roomId, Long userId, long fromSeq, long toSeq) {
+        notificationService.notifyReadStatusUpdate(roomId, userId, fromSeq, toSeq);
     }
 
     @Override
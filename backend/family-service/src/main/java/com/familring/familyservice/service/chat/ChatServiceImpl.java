@@ -1,7 +1,7 @@
 package com.familring.familyservice.service.chat;
 
-import com.familring.familyservice.config.redis.RedisUtil;
 import com.familring.familyservice.exception.chat.AlreadyVoteParticipantException;
+import com.familring.familyservice.exception.chat.InvalidVoteChoiceException;
 import com.familring.familyservice.exception.chat.VoteNotFoundException;
 import com.familring.familyservice.model.dto.chat.MessageType;
 import com.familring.familyservice.model.dto.chat.Vote;
@@ -9,33 +9,32 @@ import com.familring.familyservice.model.dto.response.ChatResponse;
 import com.familring.familyservice.model.dto.chat.Chat;
 import com.familring.familyservice.model.dto.request.ChatRequest;
 import com.familring.familyservice.model.dto.response.UserInfoResponse;
-import com.familring.familyservice.model.repository.ChatRepository;
 import com.familring.familyservice.model.repository.VoteRepository;
-import com.familring.familyservice.service.client.UserServiceFeignClient;
+import com.familring.familyservice.service.client.UserInfoCache;
 import com.familring.familyservice.service.family.FamilyService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
+import org.bson.types.ObjectId;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.*;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 @Log4j2
 public class ChatServiceImpl implements ChatService {
 
-    private final RedisUtil redisUtil;
+    private final ChatReadStateStore chatReadStateStore;
 
-    private final UserServiceFeignClient userServiceFeignClient;
+    private final UserInfoCache userInfoCache;
 
     private final FamilyService familyService;
     private final ChatRoomService chatRoomService;
     private final NotificationService notificationService;
 
-    private final ChatRepository chatRepository;
+    private final ChatPersistencePipeline chatPersistencePipeline;
     private final VoteRepository voteRepository;
 
     @Override
@@ -43,7 +42,7 @@ public class ChatServiceImpl implements ChatService {
     public Chat createChatOrVoiceOrPhotoOrVote(Long roomId, ChatRequest chatRequest) {
         log.info("[createChatAndVote] 채팅 메시지 수신: roomId={}, senderId={}, messageType={}, content={}", roomId, chatRequest.getSenderId(), chatRequest.getMessageType(), chatRequest.getContent());
 
-        UserInfoResponse user = userServiceFeignClient.getUser(chatRequest.getSenderId()).getData();
+        UserInfoResponse user = userInfoCache.getUser(chatRequest.getSenderId());
         log.info("[createChatAndVote] 회원 찾기: userId={}, userNickname={}", user.getUserId(), user.getUserNickname());
 
         int familyCount = familyService.getAllFamilyCount(chatRequest.getSenderId());
@@ -52,15 +51,14 @@ public class ChatServiceImpl implements ChatService {
         LocalDateTime now = LocalDateTime.now();
         log.info("[createChatAndVote] 지금 시간 now={}", now);
 
-        // 채팅방에 구독 중인 사용자들을 모두 읽음 처리
-        String chatRoomUserKey = "CHAT_ROOM_USER_COUNT_" + roomId;
-        Set<String> currentUserIds = redisUtil.getSetMembers(chatRoomUserKey);
-        Set<Long> readByUserIds = currentUserIds.stream()
-                .map(Long::valueOf)
-                .collect(Collectors.toSet());
+        // 메시지 순번 발급 및 채팅방에 구독 중인 사용자들을 모두 읽음 처리 (Redis 왕복 1회)
+        String chatId = new ObjectId().toHexString();
+        ChatReadStateStore.ReadState readState = chatReadStateStore.nextSeq(roomId);
+        Set<Long> readByUserIds = readState.getReadByUserIds();
 
         // 채팅 객체 생성
         Chat chat = Chat.builder()
+                .chatId(chatId)
                 .roomId(roomId)
                 .messageType(chatRequest.getMessageType())
                 .familyCount(familyCount)
@@ -71,15 +69,12 @@ public class ChatServiceImpl implements ChatService {
                 .isVoteEnd(false)
                 .responseOfVote("") // 유효하지 않은 값
                 .resultOfVote(new HashMap<>())
+                .seq(readState.getSeq())
                 .readByUserIds(readByUserIds) // 모든 구독 중인 사용자 읽음 처리
                 .build();
 
         log.info("[createChatAndVote] 채팅 객체 생성: chat={}", chat);
 
-        // 읽지 않은 사용자 수 계산
-        String unreadCountKey = "UNREAD_COUNT_" + roomId + "_" + chat.getChatId();
-        redisUtil.setString(unreadCountKey, String.valueOf(familyCount - readByUserIds.size()));
-
         if(chatRequest.getMessageType().equals(MessageType.VOTE)) {
             // 투표 객체 생성
             Vote vote = Vote.builder()
@@ -103,11 +98,11 @@ public class ChatServiceImpl implements ChatService {
             log.info("[createChatAndVote] 생성된 투표 객체 voteId={}", chat.getVoteId());
         }
 
-        chatRepository.save(chat);
-        log.info("[createChatAndVote] chatRepository 저장 완료");
+        chatPersistencePipeline.enqueue(chat);
+        log.info("[createChatAndVote] 채팅 저장 요청 완료");
 
-        // 읽음 상태 업데이트 이벤트 전송
-        chatRoomService.notifyReadStatusUpdate(roomId);
+        // 건너뛴 구간이 있는 회원만 읽음 상태 변경분 전송
+        notifySkippedReads(roomId, readState);
 
         return chat;
     }
@@ -117,7 +112,7 @@ public class ChatServiceImpl implements ChatService {
     public Chat createChatVoteResponse(Long roomId, String voteId, ChatRequest chatRequest) {
         log.info("[createChatVoteResponse] 투표 메시지 수신: roomId={}, voteId={}, senderId={}", roomId, voteId, chatRequest.getSenderId());
 
-        UserInfoResponse user = userServiceFeignClient.getUser(chatRequest.getSenderId()).getData();
+        UserInfoResponse user = userInfoCache.getUser(chatRequest.getSenderId());
         log.info("[createChatVoteResponse] 회원 찾기: userId={}, userNickname={}", user.getUserId(), user.getUserNickname());
 
         int familyCount = familyService.getAllFamilyCount(chatRequest.getSenderId());
@@ -126,32 +121,33 @@ public class ChatServiceImpl implements ChatService {
         LocalDateTime now = LocalDateTime.now();
         log.info("[createChatVoteResponse] 지금 시간 now={}", now);
 
-        // 투표 찾기
-        Vote vote = voteRepository.findByVoteId(voteId)
-                .orElseThrow(() -> new VoteNotFoundException());
-        log.info("[createChatVoteResponse] 투표 객체 찾기: vote={}", vote);
-
-        // 투표 참여
+        // 투표 참여 - 참여 여부 확인, 선택 저장, 집계를 한 번에 원자적으로 처리
         Long participantId = user.getUserId();
         String voteResponse = chatRequest.getResponseOfVote();
-        if (vote.getChoices().containsKey(participantId)) {
+        if (!Vote.isOption(voteResponse)) {
+            log.info("[createChatVoteResponse] 허용되지 않은 투표 선택지 responseOfVote={}", voteResponse);
+            throw new InvalidVoteChoiceException();
+        }
+        Vote vote = voteRepository.addChoice(voteId, participantId, voteResponse).orElse(null);
+        if (vote == null) {
+            if (!voteRepository.existsById(voteId)) {
+                throw new VoteNotFoundException();
+            }
             log.info("[createChatVoteResponse] 해당 인원이 이미 투표에 참여 완료");
             conflictVote(roomId, chatRequest.getSenderId());
             throw new AlreadyVoteParticipantException();
         }
-        vote.getChoices().put(participantId, voteResponse);
-        voteRepository.save(vote);
+        log.info("[createChatVoteResponse] 투표 참여 완료: vote={}", vote);
 
-        // 채팅방에 구독 중인 사용자들을 모두 읽음 처리
-        String chatRoomUserKey = "CHAT_ROOM_USER_COUNT_" + roomId;
-        Set<String> currentUserIds = redisUtil.getSetMembers(chatRoomUserKey);
-        Set<Long> readByUserIds = currentUserIds.stream()
-                .map(Long::valueOf)
-                .collect(Collectors.toSet());
-        log.info("[createChatVoteResponse] 읽음 처리 완료 readByUserIds={}", readByUserIds.toArray(new Long[0]));
+        // 메시지 순번 발급 및 채팅방에 구독 중인 사용자들을 모두 읽음 처리 (Redis 왕복 1회)
+        String chatId = new ObjectId().toHexString();
+        ChatReadStateStore.ReadState readState = chatReadStateStore.nextSeq(roomId);
+        Set<Long> readByUserIds = readState.getReadByUserIds();
+        log.info("[createChatVoteResponse] 읽음 처리 완료 readByUserIds={}", readByUserIds);
 
         // 투표 응답 채팅 객체 생성
         Chat voteChat = Chat.builder()
+                .chatId(chatId)
                 .roomId(roomId)
                 .messageType(MessageType.VOTE_RESPONSE)
                 .senderId(chatRequest.getSenderId())
@@ -161,30 +157,24 @@ public class ChatServiceImpl implements ChatService {
                 .voteId(voteId)
                 .responseOfVote(chatRequest.getResponseOfVote())
                 .resultOfVote(new HashMap<>())
+                .seq(readState.getSeq())
                 .readByUserIds(readByUserIds) // 모든 구독 중인 사용자 읽음 처리
                 .build();
         log.info("[createChatVoteResponse] chat 객체 Message Type={}", voteChat.getMessageType());
 
-        // 읽지 않은 사용자 수를 Redis에 저장
-        String unreadCountKey = "UNREAD_COUNT_" + roomId + "_" + voteChat.getChatId();
-        redisUtil.setString(unreadCountKey, String.valueOf(familyCount - readByUserIds.size()));
-
-        // 투표 결과 체크 및 저장
-        if (vote.getFamilyCount() == vote.getChoices().size()) {
+        // 투표 결과 체크 - 마지막 투표자의 요청에서만 종료 처리 (한 번만 성공)
+        if (vote.getChoices().size() >= vote.getFamilyCount() && voteRepository.complete(voteId)) {
             log.info("[createChatVoteResponse] 가족 구성원 모두 투표 참여 완료");
             vote.setCompleted(true); // 투표 완료 처리
-            vote.setVoteResult(vote.getChoices().values().stream()
-                    .collect(Collectors.groupingBy(choice -> choice, Collectors.summingInt(v -> 1))));
-            voteRepository.save(vote); // 투표 저장
 
             voteChat.setIsVoteEnd(true); // 투표 응답에 투표 끝났다고 저장
             log.info("[createChatVoteResponse] 투표 끝났다고 저장 완료={}", voteChat.getIsVoteEnd());
         }
 
-        chatRepository.save(voteChat); // 채팅 저장
+        chatPersistencePipeline.enqueue(voteChat); // 채팅 저장 (비동기)
         log.info("[createChatVoteResponse] 저장된 채팅 정보 voteChat={}", voteChat);
 
-        chatRoomService.notifyReadStatusUpdate(roomId);
+        notifySkippedReads(roomId, readState);
 
         return voteChat;
     }
@@ -199,16 +189,15 @@ public class ChatServiceImpl implements ChatService {
         int familyCount = familyService.getAllFamilyCount(chatRequest.getSenderId());
         log.info("[createChatVoteResult] 가족 구성원 수: familyCount={}", familyCount);
 
-        // 채팅방에 구독 중인 사용자들을 모두 읽음 처리
-        String chatRoomUserKey = "CHAT_ROOM_USER_COUNT_" + roomId;
-        Set<String> currentUserIds = redisUtil.getSetMembers(chatRoomUserKey);
-        Set<Long> readByUserIds = currentUserIds.stream()
-                .map(Long::valueOf)
-                .collect(Collectors.toSet());
-        log.info("[createChatVoteResult] 읽음 처리 완료 readByUserIds={}", readByUserIds.toArray(new Long[0]));
+        // 메시지 순번 발급 및 채팅방에 구독 중인 사용자들을 모두 읽음 처리 (Redis 왕복 1회)
+        String chatId = new ObjectId().toHexString();
+        ChatReadStateStore.ReadState readState = chatReadStateStore.nextSeq(roomId);
+        Set<Long> readByUserIds = readState.getReadByUserIds();
+        log.info("[createChatVoteResult] 읽음 처리 완료 readByUserIds={}", readByUserIds);
 
         // 투표 결과 채팅 객체 생성
         Chat voteResultChat = Chat.builder()
+                .chatId(chatId)
                 .roomId(roomId)
                 .messageType(MessageType.VOTE_RESULT)
                 .senderId(vote.getSenderId())
@@ -218,14 +207,12 @@ public class ChatServiceImpl implements ChatService {
                 .voteId(voteId)
                 .responseOfVote("")
                 .resultOfVote(vote.getVoteResult())
+                .seq(readState.getSeq())
                 .readByUserIds(readByUserIds) // 모든 구독 중인 사용자 읽음 처리
                 .build();
 
-        String unreadCountKey = "UNREAD_COUNT_" + roomId + "_" + voteResultChat.getChatId();
-        redisUtil.setString(unreadCountKey, String.valueOf(familyCount - readByUserIds.size()));
-
-        chatRepository.save(voteResultChat); // 저장 완료
-        chatRoomService.notifyReadStatusUpdate(roomId);
+        chatPersistencePipeline.enqueue(voteResultChat); // 채팅 저장 (비동기)
+        notifySkippedReads(roomId, readState);
         log.info("[createChatVoteResult] 저장된 채팅 정보 voteResultChat={}", voteResultChat);
 
         return voteResultChat;
@@ -235,7 +222,10 @@ public class ChatServiceImpl implements ChatService {
     public ChatResponse findChat(Chat chat, Long userId) {
         log.info("[findChat] 채팅 정보: chat={}", chat);
 
-        UserInfoResponse user = userServiceFeignClient.getUser(chat.getSenderId()).getData();
+        UserInfoResponse user = userInfoCache.getUser(chat.getSenderId());
+        if (user == null) {
+            user = UserInfoResponse.unknown(chat.getSenderId());
+        }
         log.info("[findChat] 발신자 정보: userId={}, userNickname={}", user.getUserId(), user.getUserNickname());
         Vote vote = null;
 
@@ -244,24 +234,25 @@ public class ChatServiceImpl implements ChatService {
             log.info("[findChat] 투표 정보: vote={}", vote);
         }
 
-        // Redis에서 읽은 사용자 ID 조회
-        String readStatusKey = "READ_STATUS_" + chat.getRoomId() + "_" + chat.getChatId();
-        Set<String> readUserIds = redisUtil.getSetMembers(readStatusKey);
-
-        // Redis에 사용자 읽음 상태 추가 (본인이 보낸 경우 바로 추가)
-        if (chat.getSenderId().equals(userId)) {
-            redisUtil.insertSet(readStatusKey, String.valueOf(userId));
-            readUserIds.add(String.valueOf(userId)); // 본인이 보낸 메시지는 자동 읽음 처리
+        // 읽은 사람 수 계산 - 본인이 보낸 경우 먼저 읽음 처리
+        long readCount;
+        if (chat.getSeq() > 0) {
+            Long readerId = chat.getSenderId().equals(userId) ? userId : null;
+            readCount = chatReadStateStore.countReaders(chat.getRoomId(), chat.getSeq(), readerId);
+        } else {
+            // 순번 도입 이전 채팅은 MongoDB에 저장된 읽음 정보 사용
+            readCount = chat.getReadByUserIds().size();
         }
 
-        // Redis에서 읽음 상태 기반으로 읽지 않은 사람 수 계산
-        int unReadMembers = chat.getFamilyCount() - readUserIds.size();
+        // 읽음 상태 기반으로 읽지 않은 사람 수 계산
+        int unReadMembers = (int) (chat.getFamilyCount() - readCount);
         unReadMembers = Math.max(unReadMembers, 0); // 0 미만일 경우 0으로 설정
 
         ChatResponse response = ChatResponse.builder()
                 .chatId(chat.getChatId())
                 .roomId(chat.getRoomId())
                 .messageType(chat.getMessageType())
+                .seq(chat.getSeq())
                 .senderId(chat.getSenderId())
                 .sender(user)
                 .content(chat.getContent())
@@ -276,6 +267,16 @@ public class ChatServiceImpl implements ChatService {
         return response;
     }
 
+    // 새 메시지의 읽은 수는 응답에 포함되므로, 그 이전 메시지를 건너뛰고 읽음 처리된 회원의 구간만 전송
+    private void notifySkippedReads(Long roomId, ChatReadStateStore.ReadState readState) {
+        long previousSeq = readState.getSeq() - 1;
+        readState.getPreviousReadSeqs().forEach((userId, previousReadSeq) -> {
+            if (previousReadSeq < previousSeq) {
+                chatRoomService.notifyReadStatusUpdate(roomId, userId, previousReadSeq, previousSeq);
+            }
+        });
+    }
+
     private void conflictVote(Long roomId, Long userId) {
         notificationService.notifyVoteConflict(roomId, userId);
     }
@@ -1,6 +1,7 @@
 package com.familring.familyservice.service.chat;
 
 import com.familring.familyservice.service.chat.event.NotificationEvent;
+import com.familring.familyservice.service.chat.event.ReadStatusEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.springframework.context.ApplicationEventPublisher;
@@ -13,12 +14,12 @@ public class NotificationService {
 
     private final ApplicationEventPublisher eventPublisher;
 
-    public void notifyReadStatusUpdate(Long roomId) {
-        eventPublisher.publishEvent(new NotificationEvent(this, roomId, "UPDATE_READ_STATUS", "read"));
+    public void notifyReadStatusUpdate(Long roomId, Long userId, long fromSeq, long toSeq) {
+        eventPublisher.publishEvent(new ReadStatusEvent(this, roomId, userId, fromSeq, toSeq));
     }
 
     public void notifyRoomExit(Long roomId, Long userId) {
-        eventPublisher.publishEvent(new NotificationEvent(this, roomId, userId + "님이 채팅방을 나갔습니다.", "read"));
+        eventPublisher.publishEvent(new NotificationEvent(this, roomId, userId + "님이 채팅방을 나갔습니다.", "exit"));
     }
 
     public void notifyVoteConflict(Long roomId, Long userId) {
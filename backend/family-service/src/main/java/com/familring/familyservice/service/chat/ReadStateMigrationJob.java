@@ -0,0 +1,111 @@
+package com.familring.familyservice.service.chat;
+
+import com.familring.familyservice.config.redis.RedisUtil;
+import com.familring.familyservice.model.repository.ChatRepository;
+import lombok.extern.log4j.Log4j2;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+// 메시지마다 만들어졌던 READ_STATUS_{roomId}_{chatId}, UNREAD_COUNT_{roomId}_{chatId} 키와 이전 접속자 집합, 읽은 시점 해시 정리 작업
+// READ_STATUS_ 집합은 MongoDB 채팅의 readByUserIds로 옮긴 뒤 삭제하고, UNREAD_COUNT_는 더 이상 사용하지 않으므로 바로 삭제
+@Component
+@Log4j2
+public class ReadStateMigrationJob {
+
+    private static final String READ_STATUS_PATTERN = "READ_STATUS_*";
+    private static final String UNREAD_COUNT_PATTERN = "UNREAD_COUNT_*";
+    private static final String ROOM_USER_COUNT_PATTERN = "CHAT_ROOM_USER_COUNT_*";
+    private static final String READ_WATERMARK_PATTERN = "READ_WATERMARK_*";
+    private static final String LOCK_KEY = "CHAT_READ_STATE_MIGRATION_LOCK";
+
+    private final RedisUtil redisUtil;
+    private final ChatRepository chatRepository;
+    private final boolean enabled;
+    private final int batchSize;
+
+    public ReadStateMigrationJob(RedisUtil redisUtil,
+                                 ChatRepository chatRepository,
+                                 @Value("${chat.read-state.migration.enabled:true}") boolean enabled,
+                                 @Value("${chat.read-state.migration.batch-size:500}") int batchSize) {
+        this.redisUtil = redisUtil;
+        this.chatRepository = chatRepository;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void migrateOnStartup() {
+        if (!enabled) {
+            return;
+        }
+        CompletableFuture.runAsync(this::migrate)
+                .exceptionally(e -> {
+                    log.error("[migrateOnStartup] 읽음 상태 키 정리 실패", e);
+                    return null;
+                });
+    }
+
+    public void migrate() {
+        // 여러 인스턴스가 동시에 실행하지 않도록 잠금
+        if (!Boolean.TRUE.equals(redisUtil.setStringIfAbsent(LOCK_KEY, "1", Duration.ofHours(1)))) {
+            log.info("[migrate] 다른 인스턴스에서 읽음 상태 키 정리 중");
+            return;
+        }
+
+        try {
+            AtomicLong migrated = new AtomicLong();
+            redisUtil.scanKeys(READ_STATUS_PATTERN, batchSize, keys -> {
+                keys.forEach(this::migrateReadStatus);
+                redisUtil.unlinkKeys(keys);
+                migrated.addAndGet(keys.size());
+            });
+            log.info("[migrate] READ_STATUS_ 키 {}개 정리 완료", migrated.get());
+
+            AtomicLong deleted = new AtomicLong();
+            redisUtil.scanKeys(UNREAD_COUNT_PATTERN, batchSize, keys -> deleted.addAndGet(redisUtil.unlinkKeys(keys)));
+            log.info("[migrate] UNREAD_COUNT_ 키 {}개 삭제 완료", deleted.get());
+
+            // 접속자는 RoomPresenceService(CHAT_ROOM_PRESENCE_)로 관리하므로 이전 접속자 집합 삭제
+            AtomicLong roomUserDeleted = new AtomicLong();
+            redisUtil.scanKeys(ROOM_USER_COUNT_PATTERN, batchSize, keys -> roomUserDeleted.addAndGet(redisUtil.unlinkKeys(keys)));
+            log.info("[migrate] CHAT_ROOM_USER_COUNT_ 키 {}개 삭제 완료", roomUserDeleted.get());
+
+            // 읽음 처리는 CHAT_READ_STATE_ 순번으로 하므로 이전 읽은 시점 해시 삭제
+            AtomicLong watermarkDeleted = new AtomicLong();
+            redisUtil.scanKeys(READ_WATERMARK_PATTERN, batchSize, keys -> watermarkDeleted.addAndGet(redisUtil.unlinkKeys(keys)));
+            log.info("[migrate] READ_WATERMARK_ 키 {}개 삭제 완료", watermarkDeleted.get());
+        } finally {
+            redisUtil.deleteString(LOCK_KEY);
+        }
+    }
+
+    private void migrateReadStatus(String key) {
+        // READ_STATUS_{roomId}_{chatId}
+        String[] parts = key.substring(READ_STATUS_PATTERN.length() - 1).split("_");
+        if (parts.length != 2 || !ObjectId.isValid(parts[1])) {
+            return; // chatId 없이 만들어진 키 (READ_STATUS_{roomId}_null)
+        }
+        Long roomId = Long.valueOf(parts[0]);
+        String chatId = parts[1];
+
+        Set<String> members = redisUtil.getSetMembers(key);
+        if (members == null || members.isEmpty()) {
+            return;
+        }
+
+        List<Long> userIds = members.stream()
+                .map(Long::valueOf)
+                .collect(Collectors.toList());
+        chatRepository.addReadByUserIds(roomId, chatId, userIds);
+    }
+}
@@ -0,0 +1,197 @@
+package com.familring.familyservice.service.chat;
+
+import com.familring.familyservice.config.redis.RedisUtil;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.stream.Collectors;
+
+/*
+채팅방 접속자 관리 - 세션마다 임대(lease)를 두고 세션에서 받은 프레임(SEND, SUBSCRIBE, heartbeat)으로 갱신
+heartbeat를 보내지 않는 세션은 연결이 유지되는 동안 접속한 노드가 heartbeat 간격마다 갱신 (DISCONNECT 시 중단)
+CHAT_ROOM_PRESENCE_{roomId}       : ZSET (member = "{userId}|{sessionId}", score = 임대 만료 시각)
+CHAT_PRESENCE_NODE_SESSIONS_{node} : HASH (member -> 접속자 키) - 노드가 죽으면 다른 노드가 이 목록으로 정리
+CHAT_PRESENCE_NODE_{node}          : 노드 생존 키 (TTL)
+만료된 임대는 조회할 때 함께 제거되므로 DISCONNECT를 놓쳐도 leaseMillis 후에는 접속자에서 빠짐
+ */
+@Service
+@Log4j2
+public class RoomPresenceService {
+
+    private static final String NODES_KEY = "CHAT_PRESENCE_NODES";
+
+    // 임대 등록/갱신 후 만료된 임대 제거, 현재 접속 세션 수 반환
+    private static final RedisScript<Long> JOIN_SCRIPT = RedisScript.of(
+            "redis.call('ZADD', KEYS[1], ARGV[2], ARGV[1]) " +
+            "redis.call('HSET', KEYS[2], ARGV[1], KEYS[1]) " +
+            "redis.call('ZREMRANGEBYSCORE', KEYS[1], '-inf', ARGV[3]) " +
+            "return redis.call('ZCARD', KEYS[1])", Long.class);
+
+    // 임대 해제 후 만료된 임대 제거, 남은 접속 세션 수 반환
+    private static final RedisScript<Long> LEAVE_SCRIPT = RedisScript.of(
+            "redis.call('ZREM', KEYS[1], ARGV[1]) " +
+            "redis.call('HDEL', KEYS[2], ARGV[1]) " +
+            "redis.call('ZREMRANGEBYSCORE', KEYS[1], '-inf', ARGV[2]) " +
+            "return redis.call('ZCARD', KEYS[1])", Long.class);
+
+    // 만료된 임대 제거 후 접속 중인 member 목록
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> PRESENT_SCRIPT = RedisScript.of(
+            "redis.call('ZREMRANGEBYSCORE', KEYS[1], '-inf', ARGV[1]) " +
+            "return redis.call('ZRANGE', KEYS[1], 0, -1)", List.class);
+
+    // 노드가 살아 있지 않으면 (ARGV[2] = '1'이면 무조건) 그 노드의 세션을 모든 채팅방에서 제거
+    private static final RedisScript<Long> PURGE_NODE_SCRIPT = RedisScript.of(
+            "if ARGV[2] ~= '1' and redis.call('EXISTS', KEYS[1]) == 1 then return -1 end " +
+            "local entries = redis.call('HGETALL', KEYS[2]) " +
+            "for i = 1, #entries, 2 do redis.call('ZREM', entries[i + 1], entries[i]) end " +
+            "redis.call('DEL', KEYS[1], KEYS[2]) " +
+            "redis.call('SREM', KEYS[3], ARGV[1]) " +
+            "return #entries / 2", Long.class);
+
+    private final RedisUtil redisUtil;
+    private final TaskScheduler presenceScheduler;
+    private final long leaseMillis;
+    private final long heartbeatMillis;
+    private final String nodeId = UUID.randomUUID().toString();
+
+    // 이 노드가 임대를 대신 갱신하는 세션 (sessionId -> 접속한 채팅방)
+    private final Map<String, KeptAliveSession> keptAliveSessions = new ConcurrentHashMap<>();
+
+    private ScheduledFuture<?> maintenanceTask;
+
+    public RoomPresenceService(RedisUtil redisUtil,
+                               @Qualifier("presenceScheduler") TaskScheduler presenceScheduler,
+                               @Value("${chat.presence.lease-millis:30000}") long leaseMillis,
+                               @Value("${chat.presence.heartbeat-millis:10000}") long heartbeatMillis) {
+        this.redisUtil = redisUtil;
+        this.presenceScheduler = presenceScheduler;
+        this.leaseMillis = leaseMillis;
+        this.heartbeatMillis = heartbeatMillis;
+    }
+
+    public static String presenceKey(Long roomId) {
+        return "CHAT_ROOM_PRESENCE_" + roomId;
+    }
+
+    // 채팅방 입장 (임대 등록), 현재 접속 세션 수 반환
+    public long join(Long roomId, Long userId, String sessionId) {
+        long now = System.currentTimeMillis();
+        Long count = redisUtil.executeScript("presenceJoin", JOIN_SCRIPT,
+                List.of(presenceKey(roomId), nodeSessionsKey(nodeId)),
+                member(userId, sessionId), String.valueOf(now + leaseMillis), String.valueOf(now));
+        return count == null ? 0L : count;
+    }
+
+    // 프레임 수신 시 임대 연장 (만료되어 빠졌으면 다시 등록)
+    public void refresh(Long roomId, Long userId, String sessionId) {
+        join(roomId, userId, sessionId);
+    }
+
+    // heartbeat를 보내지 않는 세션 - 퇴장할 때까지 maintain에서 임대 갱신
+    public void keepAlive(Long roomId, Long userId, String sessionId) {
+        keptAliveSessions.put(sessionId, new KeptAliveSession(roomId, userId));
+    }
+
+    // 채팅방 퇴장 (임대 해제), 남은 접속 세션 수 반환
+    public long leave(Long roomId, Long userId, String sessionId) {
+        keptAliveSessions.remove(sessionId);
+        Long count = redisUtil.executeScript("presenceLeave", LEAVE_SCRIPT,
+                List.of(presenceKey(roomId), nodeSessionsKey(nodeId)),
+                member(userId, sessionId), String.valueOf(System.currentTimeMillis()));
+        return count == null ? 0L : count;
+    }
+
+    // 채팅방에 접속 중인 회원 id (한 회원이 여러 세션으로 접속해도 한 번)
+    @SuppressWarnings("unchecked")
+    public Set<Long> getPresentUserIds(Long roomId) {
+        List<String> members = redisUtil.executeScript("presenceMembers", PRESENT_SCRIPT,
+                List.of(presenceKey(roomId)), String.valueOf(System.currentTimeMillis()));
+        return members.stream()
+                .map(member -> Long.valueOf(member.substring(0, member.indexOf('|'))))
+                .collect(Collectors.toSet());
+    }
+
+    // heartbeat 간격 (STOMP heartbeat 설정에도 사용)
+    public long getHeartbeatMillis() {
+        return heartbeatMillis;
+    }
+
+    @PostConstruct
+    public void startMaintenance() {
+        maintenanceTask = presenceScheduler.scheduleAtFixedRate(this::maintain, Duration.ofMillis(heartbeatMillis));
+    }
+
+    @PreDestroy
+    public void stopMaintenance() {
+        if (maintenanceTask != null) {
+            maintenanceTask.cancel(false);
+        }
+        // 정상 종료 시 이 노드의 세션을 바로 정리
+        Long purged = purgeNode(nodeId, true);
+        log.info("[stopMaintenance] 노드 종료, 접속 세션 {}개 정리 nodeId={}", purged, nodeId);
+    }
+
+    // 이 노드의 생존 키와 heartbeat 없는 세션의 임대 갱신 + 생존 키가 사라진 노드의 세션 정리
+    private void maintain() {
+        try {
+            redisUtil.setString(nodeAliveKey(nodeId), "1", Duration.ofMillis(leaseMillis));
+            redisUtil.insertSet(NODES_KEY, nodeId);
+            keptAliveSessions.forEach((sessionId, session) -> refresh(session.roomId, session.userId, sessionId));
+
+            Set<String> nodeIds = redisUtil.getSetMembers(NODES_KEY);
+            if (nodeIds == null) {
+                return;
+            }
+            for (String otherNodeId : nodeIds) {
+                if (otherNodeId.equals(nodeId)) {
+                    continue;
+                }
+                Long purged = purgeNode(otherNodeId, false);
+                if (purged != null && purged >= 0) {
+                    log.info("[maintain] 응답 없는 노드의 접속 세션 {}개 정리 nodeId={}", purged, otherNodeId);
+                }
+            }
+        } catch (Exception e) {
+            log.error("[maintain] 접속자 관리 작업 실패", e);
+        }
+    }
+
+    private Long purgeNode(String targetNodeId, boolean force) {
+        return redisUtil.executeScript("presencePurgeNode", PURGE_NODE_SCRIPT,
+                List.of(nodeAliveKey(targetNodeId), nodeSessionsKey(targetNodeId), NODES_KEY),
+                targetNodeId, force ? "1" : "0");
+    }
+
+    private static class KeptAliveSession {
+        private final Long roomId;
+        private final Long userId;
+
+        private KeptAliveSession(Long roomId, Long userId) {
+            this.roomId = roomId;
+            this.userId = userId;
+        }
+    }
+
+    private String member(Long userId, String sessionId) {
+        return userId + "|" + sessionId;
+    }
+
+    private String nodeAliveKey(String targetNodeId) {
+        return "CHAT_PRESENCE_NODE_" + targetNodeId;
+    }
+
+    private String nodeSessionsKey(String targetNodeId) {
+        return "CHAT_PRESENCE_NODE_SESSIONS_" + targetNodeId;
+    }
+}
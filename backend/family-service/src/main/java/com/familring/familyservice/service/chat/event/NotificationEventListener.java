@@ -1,25 +1,89 @@
 package com.familring.familyservice.service.chat.event;
 
-import lombok.RequiredArgsConstructor;
+import com.familring.familyservice.config.websocket.broker.RoomMessageBroker;
+import com.familring.familyservice.model.dto.response.ReadStatusResponse;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.event.EventListener;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.TaskScheduler;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 @Component
-@RequiredArgsConstructor
+@Log4j2
 public class NotificationEventListener {
-    private final SimpMessagingTemplate template;
+    private final RoomMessageBroker roomMessageBroker;
+    private final TaskScheduler readStatusScheduler;
+    private final Duration coalesceWindow;
+
+    // 방마다 전송 대기 중인 읽음 구간 (userId -> [fromSeq, toSeq])
+    private final Map<Long, Map<Long, long[]>> pendingReads = new ConcurrentHashMap<>();
+
+    public NotificationEventListener(RoomMessageBroker roomMessageBroker,
+                                     @Qualifier("readStatusScheduler") TaskScheduler readStatusScheduler,
+                                     @Value("${chat.read-status.coalesce-millis:200}") long coalesceMillis) {
+        this.roomMessageBroker = roomMessageBroker;
+        this.readStatusScheduler = readStatusScheduler;
+        this.coalesceWindow = Duration.ofMillis(coalesceMillis);
+    }
 
     @EventListener
     public void handleNotificationEvent(NotificationEvent event) {
-        if(event.getType().equals("read")) {
-            String destination = "/room/" + event.getRoomId() + "/readStatus";
-            template.convertAndSend(destination, event.getMessage());
+        if(event.getType().equals("exit")) {
+            String destination = "/room/" + event.getRoomId() + "/exit";
+            roomMessageBroker.send(destination, event.getMessage());
             System.out.println("[NotificationEventListener] roomId=" + event.getRoomId() + "에 알림 전송: " + event.getMessage());
         } else if(event.getType().equals("error")) {
             String destination = "/room/" + event.getRoomId() + "/error";
-            template.convertAndSend(destination, event.getMessage());
+            roomMessageBroker.send(destination, event.getMessage());
             System.out.println("[NotificationEventListener] roomId=" + event.getRoomId() + "에 알림 전송: " + event.getMessage());
         }
     }
-}
\ No newline at end of file
+
+    // 읽음 상태 변경은 방 단위로 coalesceWindow 동안 모아서 한 번에 전송
+    @EventListener
+    public void handleReadStatusEvent(ReadStatusEvent event) {
+        if (event.getToSeq() <= event.getFromSeq()) {
+            return; // 새로 읽은 메시지 없음
+        }
+
+        boolean[] firstInWindow = {false};
+        pendingReads.compute(event.getRoomId(), (roomId, reads) -> {
+            if (reads == null) {
+                reads = new LinkedHashMap<>();
+                firstInWindow[0] = true;
+            }
+            // 읽은 순번은 줄어들지 않으므로 같은 회원의 구간은 이어 붙이면 됨
+            reads.merge(event.getUserId(), new long[]{event.getFromSeq(), event.getToSeq()},
+                    (before, after) -> new long[]{Math.min(before[0], after[0]), Math.max(before[1], after[1])});
+            return reads;
+        });
+
+        if (firstInWindow[0]) {
+            readStatusScheduler.schedule(() -> flushReadStatus(event.getRoomId()), Instant.now().plus(coalesceWindow));
+        }
+    }
+
+    private void flushReadStatus(Long roomId) {
+        Map<Long, long[]> reads = pendingReads.remove(roomId);
+        if (reads == null || reads.isEmpty()) {
+            return;
+        }
+
+        ReadStatusResponse response = ReadStatusResponse.builder()
+                .roomId(roomId)
+                .reads(new ArrayList<>())
+                .build();
+        reads.forEach((userId, range) -> response.getReads().add(new ReadStatusResponse.Read(userId, range[0], range[1])));
+
+        roomMessageBroker.send("/room/" + roomId + "/readStatus", response);
+        log.debug("[flushReadStatus] roomId={} 읽음 상태 전송 reads={}", roomId, response.getReads().size());
+    }
+}
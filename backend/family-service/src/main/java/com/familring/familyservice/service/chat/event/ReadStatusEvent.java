@@ -0,0 +1,20 @@
+package com.familring.familyservice.service.chat.event;
+
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+
+@Getter
+public class ReadStatusEvent extends ApplicationEvent {
+    private final Long roomId;
+    private final Long userId;
+    private final long fromSeq; // 이전에 읽은 순번 (미포함)
+    private final long toSeq; // 새로 읽은 순번 (포함)
+
+    public ReadStatusEvent(Object source, Long roomId, Long userId, long fromSeq, long toSeq) {
+        super(source);
+        this.roomId = roomId;
+        this.userId = userId;
+        this.fromSeq = fromSeq;
+        this.toSeq = toSeq;
+    }
+}
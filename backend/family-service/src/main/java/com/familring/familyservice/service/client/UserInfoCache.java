@@ -0,0 +1,42 @@
+package com.familring.familyservice.service.client;
+
+import com.familring.common_module.cache.UserInfoClientCache;
+import com.familring.common_module.cache.UserInfoNearCacheFactory;
+import com.familring.familyservice.model.dto.response.UserInfoResponse;
+import feign.FeignException;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// user-service 회원 정보 캐시 (common-module UserInfoClientCache)
+@Component
+@Log4j2
+public class UserInfoCache extends UserInfoClientCache<UserInfoResponse> {
+
+    public UserInfoCache(UserServiceFeignClient userServiceFeignClient, UserInfoNearCacheFactory userInfoNearCacheFactory) {
+        super(userInfoNearCacheFactory, userIds -> {
+            log.info("[loadAll] user-service 조회 userIds={}", userIds);
+            try {
+                return userServiceFeignClient.getAllUser(userIds).getData();
+            } catch (FeignException.NotFound e) {
+                // 없는 회원이 섞여 있으면 getAllUser 전체가 404 -> 한 명씩 조회해서 없는 회원만 제외
+                log.warn("[loadAll] 없는 회원 포함, 단건 조회로 전환 userIds={}", userIds);
+                return loadEach(userServiceFeignClient, userIds);
+            }
+        }, UserInfoResponse::getUserId);
+    }
+
+    private static List<UserInfoResponse> loadEach(UserServiceFeignClient userServiceFeignClient, List<Long> userIds) {
+        List<UserInfoResponse> users = new ArrayList<>(userIds.size());
+        for (Long userId : userIds) {
+            try {
+                users.add(userServiceFeignClient.getUser(userId).getData());
+            } catch (FeignException.NotFound e) {
+                log.warn("[loadEach] 없는 회원 userId={}", userId);
+            }
+        }
+        return users;
+    }
+}
@@ -0,0 +1,109 @@
+package com.familring.familyservice.service.family;
+
+import com.familring.familyservice.model.dao.FamilyDao;
+import com.familring.familyservice.model.dto.Family;
+import com.familring.familyservice.service.family.event.FamilyCacheEvictEvent;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.bus.BusProperties;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+
+// 가족 정보 및 구성원 캐시 - userId, familyId로 조회
+@Component
+@Log4j2
+public class FamilyCache {
+
+    private final FamilyDao familyDao;
+    private final ApplicationEventPublisher eventPublisher;
+    private final BusProperties busProperties;
+    private final String applicationName;
+
+    private final Cache<Long, Long> familyIdByUserId;
+    private final Cache<Long, FamilyMembers> familyByFamilyId;
+
+    public FamilyCache(FamilyDao familyDao,
+                       ApplicationEventPublisher eventPublisher,
+                       BusProperties busProperties,
+                       @Value("${spring.application.name:family-service}") String applicationName,
+                       @Value("${family.cache.max-size:10000}") long maxSize,
+                       @Value("${family.cache.ttl:PT10M}") Duration ttl) {
+        this.familyDao = familyDao;
+        this.eventPublisher = eventPublisher;
+        this.busProperties = busProperties;
+        this.applicationName = applicationName;
+        this.familyIdByUserId = Caffeine.newBuilder().maximumSize(maxSize).expireAfterWrite(ttl).build();
+        this.familyByFamilyId = Caffeine.newBuilder().maximumSize(maxSize).expireAfterWrite(ttl).build();
+    }
+
+    // userId가 속한 가족 조회 - 가족이 없으면 null
+    public FamilyMembers getByUserId(Long userId) {
+        Long familyId = familyIdByUserId.getIfPresent(userId);
+        if (familyId != null) {
+            return getByFamilyId(familyId);
+        }
+
+        Family family = familyDao.findFamilyByUserId(userId).orElse(null);
+        if (family == null) {
+            return null;
+        }
+        return familyByFamilyId.get(family.getFamilyId(), id -> load(family));
+    }
+
+    // familyId에 해당하는 가족 조회 - 가족이 없으면 null
+    public FamilyMembers getByFamilyId(Long familyId) {
+        return familyByFamilyId.get(familyId, id -> familyDao.findFamilyByFamilyId(id)
+                .map(this::load)
+                .orElse(null));
+    }
+
+    // 트랜잭션 커밋 후 모든 인스턴스의 캐시 무효화
+    public void evict(Long familyId, List<Long> userIds) {
+        FamilyCacheEvictEvent event = new FamilyCacheEvictEvent(this, busProperties.getId(), applicationName + ":**", familyId, userIds);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    eventPublisher.publishEvent(event);
+                }
+            });
+        } else {
+            eventPublisher.publishEvent(event);
+        }
+    }
+
+    @EventListener
+    public void handleEvictEvent(FamilyCacheEvictEvent event) {
+        log.info("[handleEvictEvent] 가족 캐시 무효화 familyId={}, userIds={}", event.getFamilyId(), event.getUserIds());
+        if (event.getFamilyId() != null) {
+            familyByFamilyId.invalidate(event.getFamilyId());
+        }
+        if (event.getUserIds() != null) {
+            familyIdByUserId.invalidateAll(event.getUserIds());
+        }
+    }
+
+    private FamilyMembers load(Family family) {
+        List<Long> memberIds = familyDao.findFamilyUserByFamilyId(family.getFamilyId());
+        memberIds.forEach(memberId -> familyIdByUserId.put(memberId, family.getFamilyId()));
+        return new FamilyMembers(family, List.copyOf(memberIds));
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class FamilyMembers {
+        private final Family family;
+        private final List<Long> memberIds;
+    }
+}
@@ -1,6 +1,5 @@
 package com.familring.familyservice.service.family;
 
-import com.familring.common_module.dto.BaseResponse;
 import com.familring.familyservice.exception.family.AlreadyFamilyRoleException;
 import com.familring.familyservice.exception.family.AlreadyInFamilyException;
 import com.familring.familyservice.exception.family.FamilyNotFoundException;
@@ -15,7 +14,8 @@ import com.familring.familyservice.model.dto.response.FamilyInfoResponse;
 import com.familring.familyservice.model.dto.response.UserInfoResponse;
 import com.familring.familyservice.service.client.AlbumServiceFeignClient;
 import com.familring.familyservice.service.client.QuestionServiceFeignClient;
-import com.familring.familyservice.service.client.UserServiceFeignClient;
+import com.familring.familyservice.service.client.UserInfoCache;
+import com.familring.familyservice.service.family.FamilyCache.FamilyMembers;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.springframework.stereotype.Service;
@@ -31,15 +31,15 @@ import java.util.UUID;
 public class FamilyServiceImpl implements FamilyService {
 
     private final FamilyDao familyDao;
-    private final UserServiceFeignClient userServiceFeignClient;
+    private final FamilyCache familyCache;
+    private final UserInfoCache userInfoCache;
     private final QuestionServiceFeignClient questionServiceFeignClient;
     private final AlbumServiceFeignClient albumServiceFeignClient;
 
     @Override
     public FamilyInfoResponse getFamilyInfo(Long userId) {
         // 1. 가족 조회
-        Family family = familyDao.findFamilyByUserId(userId)
-                .orElseThrow(() -> new FamilyNotFoundException());
+        Family family = findCachedFamilyByUserId(userId).getFamily();
 
         // 2. 응답 변환
         FamilyInfoResponse response = FamilyInfoResponse.builder()
@@ -56,8 +56,7 @@ public class FamilyServiceImpl implements FamilyService {
     @Override
     public String getFamilyCode(Long userId) {
         // 1. 가족 조회
-        Family family = familyDao.findFamilyByUserId(userId)
-                .orElseThrow(() -> new FamilyNotFoundException());
+        Family family = findCachedFamilyByUserId(userId).getFamily();
 
         // 2.  가족 코드 조회
         String familyCode = family.getFamilyCode();
@@ -69,10 +68,11 @@ public class FamilyServiceImpl implements FamilyService {
     @Override
     public List<UserInfoResponse> getFamilyMemberList(Long userId) {
         // 1.  userId의 가족 구성원 모두의 userId 추출
-        List<Long> members = familyDao.findFamilyUserByUserId(userId);
+        FamilyMembers family = familyCache.getByUserId(userId);
+        List<Long> members = family == null ? List.of() : family.getMemberIds();
 
         // 2. 가족 구성원 userId에 대해 user-service에게 사용자 정보 조회(GET "/users/info")  api 요청
-        List<UserInfoResponse> userInfoResponses = userServiceFeignClient.getAllUser(members).getData();
+        List<UserInfoResponse> userInfoResponses = userInfoCache.getAllUser(members);
 
         // 3. 응답
         return userInfoResponses;
@@ -80,12 +80,12 @@ public class FamilyServiceImpl implements FamilyService {
 
     @Override
     public List<UserInfoResponse> getFamilyMemberListByFamilyId(Long familyId) {
-        // 1.  userId의 가족 구성원 모두의 userId 추출
-        List<Long> members = familyDao.findFamilyUserByFamilyId(familyId);
+        // 1.  familyId의 가족 구성원 모두의 userId 추출
+        FamilyMembers family = familyCache.getByFamilyId(familyId);
+        List<Long> members = family == null ? List.of() : family.getMemberIds();
 
         // 2. 가족 구성원 userId에 대해 user-service에게 사용자 정보 조회(GET "/users/info")  api 요청
-        BaseResponse<List<UserInfoResponse>> response = userServiceFeignClient.getAllUser(members);
-        List<UserInfoResponse> userInfoResponses = response.getData(); // data 필드에 접근
+        List<UserInfoResponse> userInfoResponses = userInfoCache.getAllUser(members);
 
         // 3. 응답
         return userInfoResponses;
@@ -111,7 +111,7 @@ public class FamilyServiceImpl implements FamilyService {
         log.info("[validFamilyMember] 가족 구성원 userIds={}", members);
 
         // 2-2. 가족 구성원의 사용자 정보 조회
-        List<UserInfoResponse> userInfoResponses = userServiceFeignClient.getAllUser(members).getData();
+        List<UserInfoResponse> userInfoResponses = userInfoCache.getAllUser(members);
 
         // 2-3. 사용자 정보 중 userRole이 M이나 F찾기
         for (UserInfoResponse user : userInfoResponses) {
@@ -134,7 +134,8 @@ public class FamilyServiceImpl implements FamilyService {
 
     @Override
     public int getAllFamilyCount(Long userId) {
-        return familyDao.countFamily_UserByUserId(userId);
+        FamilyMembers family = familyCache.getByUserId(userId);
+        return family == null ? 0 : family.getMemberIds().size();
     }
 
 
@@ -170,6 +171,7 @@ public class FamilyServiceImpl implements FamilyService {
 
         // 2. 가족 구성원 추가
         familyDao.insetFamily_User(familyId, userId);
+        familyCache.evict(familyId, List.of(userId));
         log.info("가족 구성원 추가 완료");
 
         // 3. 가족 조회
@@ -205,7 +207,7 @@ public class FamilyServiceImpl implements FamilyService {
         log.info("familyId: {}", family.getFamilyId());
 
         // 2. 사용자 정보 찾기
-        UserInfoResponse user = userServiceFeignClient.getUser(userId).getData();
+        UserInfoResponse user = userInfoCache.getUser(userId);
         log.info("userRole: {}", user.getUserRole());
 
         // 3. 에러 확인
@@ -241,6 +243,7 @@ public class FamilyServiceImpl implements FamilyService {
         // 4-2. 가족 구성원 수 + 1
         log.info("before 가족 구성원 수: {}", family.getFamilyCount());
         familyDao.updateFamilyCountByFamilyId(family.getFamilyId(), 1);
+        familyCache.evict(family.getFamilyId(), List.of(userId));
 
         // 5. 인물 앨범 생성
         albumServiceFeignClient.createPersonAlbum(PersonAlbumCreateRequest
@@ -265,6 +268,7 @@ public class FamilyServiceImpl implements FamilyService {
 
         // 2-2. family_user의 컬럼 삭제
         familyDao.deleteFamily_UserByFamilyIdAndUserId(family.getFamilyId(), userId);
+        familyCache.evict(family.getFamilyId(), List.of(userId));
         log.info("family_user의 컬럼 삭제 완료");
 
         return "가족 구성원 수정 완료";
@@ -282,6 +286,15 @@ public class FamilyServiceImpl implements FamilyService {
         // 2. 가족 상태 변경
         int newStatus = Math.max(0, Math.min(100, currentStatus + familyStatusRequest.getAmount()));
         familyDao.updateFamilyCommunicationStatusByFamilyId(familyStatusRequest.getFamilyId(), newStatus);
+        familyCache.evict(familyStatusRequest.getFamilyId(), List.of());
         log.info("[updateFamilyStatus] 이후 가족 상태: {}", newStatus);
     }
+
+    private FamilyMembers findCachedFamilyByUserId(Long userId) {
+        FamilyMembers family = familyCache.getByUserId(userId);
+        if (family == null) {
+            throw new FamilyNotFoundException();
+        }
+        return family;
+    }
 }
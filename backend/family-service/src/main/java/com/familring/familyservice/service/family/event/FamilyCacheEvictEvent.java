@@ -0,0 +1,21 @@
+package com.familring.familyservice.service.family.event;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.cloud.bus.event.RemoteApplicationEvent;
+
+import java.util.List;
+
+// 가족 구성원 캐시 무효화 이벤트 - Spring Cloud Bus로 모든 family-service 인스턴스에 전파
+@Getter
+@NoArgsConstructor
+public class FamilyCacheEvictEvent extends RemoteApplicationEvent {
+    private Long familyId;
+    private List<Long> userIds;
+
+    public FamilyCacheEvictEvent(Object source, String originService, String destinationService, Long familyId, List<Long> userIds) {
+        super(source, originService, DEFAULT_DESTINATION_FACTORY.getDestination(destinationService));
+        this.familyId = familyId;
+        this.userIds = userIds;
+    }
+}
@@ -0,0 +1,152 @@
+package com.familring.familyservice.config.websocket;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompDecoder;
+import org.springframework.messaging.simp.stomp.StompEncoder;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+// 세션 데코레이터를 통해 소켓에 실제로 쓰이는 프레임 본문 검증
+class CompactPayloadCodecTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private CompactPayloadCodec compactPayloadCodec;
+    private WebSocketSession nativeSession;
+    private WebSocketSession decoratedSession;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        compactPayloadCodec = new CompactPayloadCodec(objectMapper, new SimpleMeterRegistry());
+
+        nativeSession = mock(WebSocketSession.class);
+        when(nativeSession.getId()).thenReturn("session-1");
+
+        WebSocketHandler handler = mock(WebSocketHandler.class);
+        compactPayloadCodec.decorate(handler).afterConnectionEstablished(nativeSession);
+
+        ArgumentCaptor<WebSocketSession> session = ArgumentCaptor.forClass(WebSocketSession.class);
+        verify(handler).afterConnectionEstablished(session.capture());
+        decoratedSession = session.getValue();
+    }
+
+    @Test
+    @DisplayName("compactChat - 처음 보내는 발신자, 투표는 전체 포함하고 기본값 필드는 생략")
+    void compactFirstChat() throws Exception {
+        compactPayloadCodec.negotiate("session-1", "compact");
+
+        JsonNode sent = send("/room/1", chat("chat-1", sender(7L, "엄마"), vote(0, 0)));
+
+        assertThat(sent.path("sender").path("userNickname").asText()).isEqualTo("엄마");
+        assertThat(sent.path("vote").path("voteTitle").asText()).isEqualTo("저녁 메뉴");
+        assertThat(sent.has("content")).isFalse(); // 빈 문자열
+        assertThat(sent.has("responseOfVote")).isFalse(); // null
+        assertThat(sent.has("voteEnd")).isFalse(); // false
+        assertThat(sent.path("unReadMembers").asInt()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("compactChat - 이미 보낸 발신자는 생략하고 프로필이 바뀌면 다시 포함")
+    void compactRepeatedSender() throws Exception {
+        compactPayloadCodec.negotiate("session-1", "compact");
+
+        send("/room/1", chat("chat-1", sender(7L, "엄마"), null));
+        JsonNode repeated = send("/room/1", chat("chat-2", sender(7L, "엄마"), null));
+        JsonNode changed = send("/room/1", chat("chat-3", sender(7L, "우리 엄마"), null));
+
+        assertThat(repeated.has("sender")).isFalse();
+        assertThat(repeated.path("senderId").asLong()).isEqualTo(7L);
+        assertThat(changed.path("sender").path("userNickname").asText()).isEqualTo("우리 엄마");
+    }
+
+    @Test
+    @DisplayName("diff - 이미 보낸 투표는 voteId와 바뀐 필드만 voteDelta로 전송")
+    void diffRepeatedVote() throws Exception {
+        compactPayloadCodec.negotiate("session-1", "compact");
+
+        send("/room/1", chat("chat-1", sender(7L, "엄마"), vote(0, 0)));
+        JsonNode sent = send("/room/1", chat("chat-2", sender(7L, "엄마"), vote(1, 0)));
+
+        assertThat(sent.has("vote")).isFalse();
+        JsonNode delta = sent.path("voteDelta");
+        assertThat(delta.path("voteId").asText()).isEqualTo("vote-1");
+        assertThat(delta.path("voteResult").path("찬성").asInt()).isEqualTo(1);
+        assertThat(delta.has("voteTitle")).isFalse();
+        assertThat(delta.has("familyCount")).isFalse();
+    }
+
+    @Test
+    @DisplayName("압축 모드를 요청하지 않은 세션은 원래 프레임 그대로 전송")
+    void sendOriginalWithoutNegotiation() throws Exception {
+        TextMessage frame = frame("/room/1", chat("chat-1", sender(7L, "엄마"), vote(0, 0)));
+
+        decoratedSession.sendMessage(frame);
+
+        verify(nativeSession).sendMessage(frame);
+    }
+
+    @Test
+    @DisplayName("채팅이 아닌 알림은 본문을 바꾸지 않음")
+    void keepNonChatBody() throws Exception {
+        compactPayloadCodec.negotiate("session-1", "compact");
+
+        JsonNode sent = send("/room/1", "{\"type\":\"resync\",\"reason\":\"\"}");
+
+        assertThat(sent.path("type").asText()).isEqualTo("resync");
+        assertThat(sent.has("reason")).isTrue();
+    }
+
+    private JsonNode send(String destination, String body) throws Exception {
+        clearInvocations(nativeSession);
+        decoratedSession.sendMessage(frame(destination, body));
+
+        ArgumentCaptor<TextMessage> sent = ArgumentCaptor.forClass(TextMessage.class);
+        verify(nativeSession).sendMessage(sent.capture());
+        List<Message<byte[]>> frames = new StompDecoder().decode(ByteBuffer.wrap(sent.getValue().asBytes()));
+        return objectMapper.readTree(frames.get(0).getPayload());
+    }
+
+    private TextMessage frame(String destination, String body) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.MESSAGE);
+        accessor.setDestination(destination);
+        accessor.setSubscriptionId("sub-0");
+        accessor.setMessageId("message-1");
+        accessor.setLeaveMutable(true);
+        byte[] encoded = new StompEncoder().encode(
+                MessageBuilder.createMessage(body.getBytes(StandardCharsets.UTF_8), accessor.getMessageHeaders()));
+        return new TextMessage(new String(encoded, StandardCharsets.UTF_8));
+    }
+
+    private String chat(String chatId, String sender, String vote) {
+        return "{\"chatId\":\"" + chatId + "\",\"roomId\":1,\"senderId\":7,\"sender\":" + sender
+                + ",\"content\":\"\",\"messageType\":\"VOTE\",\"responseOfVote\":null,\"voteEnd\":false"
+                + ",\"unReadMembers\":2,\"vote\":" + vote + "}";
+    }
+
+    private String sender(Long userId, String nickname) {
+        return "{\"userId\":" + userId + ",\"userNickname\":\"" + nickname + "\",\"userColor\":\"#FFFFFF\"}";
+    }
+
+    private String vote(int agree, int disagree) {
+        return "{\"voteId\":\"vote-1\",\"voteTitle\":\"저녁 메뉴\",\"familyCount\":3"
+                + ",\"voteResult\":{\"찬성\":" + agree + ",\"반대\":" + disagree + "}}";
+    }
+}
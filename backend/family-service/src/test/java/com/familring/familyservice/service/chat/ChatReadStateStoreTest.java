@@ -0,0 +1,123 @@
+package com.familring.familyservice.service.chat;
+
+import com.familring.familyservice.config.redis.RedisUtil;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+// Lua 스크립트 본문은 Redis에서 실행되므로 여기서는 스크립트에 넘기는 키/인자와 반환값 해석을 검증
+@ExtendWith(MockitoExtension.class)
+class ChatReadStateStoreTest {
+
+    @Mock
+    private RedisUtil redisUtil;
+
+    @InjectMocks
+    private ChatReadStateStore chatReadStateStore;
+
+    @Test
+    @DisplayName("countReaders - seq 이상까지 읽은 회원 수")
+    void countReaders() {
+        ChatReadStateStore.ReadCounter readCounter = ChatReadStateStore.ReadCounter.of(List.of(5L, 1L, 3L, 3L, 8L));
+
+        assertThat(readCounter.countReaders(0)).isEqualTo(5);
+        assertThat(readCounter.countReaders(1)).isEqualTo(5);
+        assertThat(readCounter.countReaders(2)).isEqualTo(4);
+        assertThat(readCounter.countReaders(3)).isEqualTo(4);
+        assertThat(readCounter.countReaders(4)).isEqualTo(2);
+        assertThat(readCounter.countReaders(8)).isEqualTo(1);
+        assertThat(readCounter.countReaders(9)).isZero();
+    }
+
+    @Test
+    @DisplayName("countReaders - 읽음 상태가 없는 방")
+    void countReadersWithoutReadState() {
+        ChatReadStateStore.ReadCounter readCounter = ChatReadStateStore.ReadCounter.of(List.of());
+
+        assertThat(readCounter.countReaders(1)).isZero();
+    }
+
+    @Test
+    @DisplayName("getReadCounter - 순번 필드는 회원으로 세지 않음")
+    void getReadCounterIgnoresSeqField() {
+        when(redisUtil.getHashEntries("CHAT_READ_STATE_1")).thenReturn(Map.of("seq", "10", "7", "10", "8", "4"));
+
+        ChatReadStateStore.ReadCounter readCounter = chatReadStateStore.getReadCounter(1L);
+
+        assertThat(readCounter.countReaders(4)).isEqualTo(2);
+        assertThat(readCounter.countReaders(10)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("nextSeq - 발급된 순번과 접속 중이라 읽음 처리된 회원별 이전 순번")
+    void nextSeq() {
+        when(redisUtil.executeScript(eq("nextSeq"), any(), anyList(), anyString()))
+                .thenReturn(List.of("11", "7", "10", "8", "4"));
+
+        ChatReadStateStore.ReadState readState = chatReadStateStore.nextSeq(1L);
+
+        assertThat(readState.getSeq()).isEqualTo(11L);
+        assertThat(readState.getReadByUserIds()).containsExactlyInAnyOrder(7L, 8L);
+        assertThat(readState.getPreviousReadSeqs()).containsEntry(7L, 10L).containsEntry(8L, 4L);
+        verify(redisUtil).executeScript(eq("nextSeq"), any(),
+                eq(List.of(RoomPresenceService.presenceKey(1L), "CHAT_READ_STATE_1")), anyString());
+    }
+
+    @Test
+    @DisplayName("nextSeq - 접속 중인 회원이 없으면 순번만 발급")
+    void nextSeqWithoutPresentUsers() {
+        when(redisUtil.executeScript(eq("nextSeq"), any(), anyList(), anyString())).thenReturn(List.of("1"));
+
+        ChatReadStateStore.ReadState readState = chatReadStateStore.nextSeq(1L);
+
+        assertThat(readState.getSeq()).isEqualTo(1L);
+        assertThat(readState.getReadByUserIds()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("markAllAsRead - 이전에 읽은 순번과 현재 읽은 순번으로 새로 읽은 구간 반환")
+    void markAllAsRead() {
+        when(redisUtil.executeScript(eq("markRead"), any(), eq(List.of("CHAT_READ_STATE_1")), eq("7")))
+                .thenReturn(List.of("4", "10"));
+
+        ChatReadStateStore.ReadRange readRange = chatReadStateStore.markAllAsRead(1L, 7L);
+
+        assertThat(readRange.getUserId()).isEqualTo(7L);
+        assertThat(readRange.getFromSeq()).isEqualTo(4L);
+        assertThat(readRange.getToSeq()).isEqualTo(10L);
+        assertThat(readRange.isEmpty()).isFalse();
+    }
+
+    @Test
+    @DisplayName("markAllAsRead - 이미 최신 순번까지 읽었으면 빈 구간")
+    void markAllAsReadWithoutNewMessages() {
+        when(redisUtil.executeScript(eq("markRead"), any(), anyList(), anyString())).thenReturn(List.of("10", "10"));
+
+        assertThat(chatReadStateStore.markAllAsRead(1L, 7L).isEmpty()).isTrue();
+    }
+
+    @Test
+    @DisplayName("countReaders(room) - 읽는 회원이 없으면 빈 문자열을 넘겨 읽음 처리 생략")
+    void countReadersWithoutReader() {
+        when(redisUtil.executeScript(eq("countReaders"), any(), anyList(), anyString(), anyString())).thenReturn(null);
+
+        assertThat(chatReadStateStore.countReaders(1L, 5L, null)).isZero();
+
+        ArgumentCaptor<String> args = ArgumentCaptor.forClass(String.class);
+        verify(redisUtil).executeScript(eq("countReaders"), any(), eq(List.of("CHAT_READ_STATE_1")),
+                args.capture(), args.capture());
+        assertThat(args.getAllValues()).containsExactly("", "5");
+    }
+}
@@ -7,6 +7,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -19,6 +20,10 @@ public interface InterestAnswerRepository extends JpaRepository<InterestAnswer,
 
     List<InterestAnswer> findByFamilyIdAndInterest(Long familyId, Interest interest);
 
+    List<InterestAnswer> findByInterestAndUserIdIn(Interest interest, Collection<Long> userIds);
+
+    boolean existsByInterestAndUserIdIn(Interest interest, Collection<Long> userIds);
+
     @Query("SELECT ia FROM InterestAnswer ia WHERE ia.familyId = :familyId AND ia.interest = :interest AND ia.selected = true")
     Optional<InterestAnswer> findSelectedAnswersByFamilyIdAndInterest(@Param("familyId") Long familyId, @Param("interest") Interest interest);
 
@@ -14,7 +14,7 @@ import com.familring.interestservice.repository.InterestRepository;
 import com.familring.interestservice.service.client.FamilyServiceFeignClient;
 import com.familring.interestservice.service.client.FileServiceFeignClient;
 import com.familring.interestservice.service.client.NotificationServiceFeignClient;
-import com.familring.interestservice.service.client.UserServiceFeignClient;
+import com.familring.interestservice.service.client.UserInfoCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -27,7 +27,9 @@ import org.springframework.web.multipart.MultipartFile;
 import java.time.LocalDate;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Random;
 
@@ -41,7 +43,7 @@ public class InterestService {
     private final InterestAnswerRepository interestAnswerRepository;
     private final InterestMissionRepository interestMissionRepository;
     private final FamilyServiceFeignClient familyServiceFeignClient;
-    private final UserServiceFeignClient userServiceFeignClient;
+    private final UserInfoCache userInfoCache;
     private final FileServiceFeignClient fileServiceFeignClient;
     private final NotificationServiceFeignClient notificationServiceFeignClient;
 
@@ -150,16 +152,10 @@ public class InterestService {
             // 가족 구성원 찾기
             List<UserInfoResponse> familyMembers = familyServiceFeignClient.getFamilyMemberList(userId).getData();
 
-            // 가족 구성원이 아무도 답변 안했으면 false
-            boolean answerStatusFamily = false;
-            for (UserInfoResponse familyMember : familyMembers) {
-                // 누군가 답변했으면 true (누군가에 나도 포함)
-                Optional<InterestAnswer> familyMemberAnswer = interestAnswerRepository.findByUserIdAndInterest(familyMember.getUserId(), interest);
-                if (familyMemberAnswer.isPresent()) {
-                    answerStatusFamily = true;
-                    break;
-                }
-            }
+            // 가족 구성원 중 누군가 답변했으면 true (누군가에 나도 포함), 아무도 답변 안했으면 false
+            List<Long> familyMemberIds = familyMembers.stream().map(UserInfoResponse::getUserId).toList();
+            boolean answerStatusFamily = !familyMemberIds.isEmpty()
+                    && interestAnswerRepository.existsByInterestAndUserIdIn(interest, familyMemberIds);
 
             if (interestAnswer.isPresent()) {
                 log.info("interestId : " + interest.getId());
@@ -206,33 +202,36 @@ public class InterestService {
         // 가족 구성원 찾기
         List<UserInfoResponse> familyMembers = familyServiceFeignClient.getFamilyMemberList(userId).getData();
 
-        List<InterestAnswerResponse> interestAnswerResponses = new ArrayList<>();
+        // 가족 구성원 답변 한 번에 조회
+        List<Long> familyMemberIds = familyMembers.stream().map(UserInfoResponse::getUserId).toList();
+        List<InterestAnswer> interestAnswers = familyMemberIds.isEmpty()
+                ? List.of()
+                : interestAnswerRepository.findByInterestAndUserIdIn(interest, familyMemberIds);
 
-        for (UserInfoResponse familyMember : familyMembers) {
+        return toInterestAnswerResponses(familyMembers, interestAnswers);
 
-            // 구성원이 답변 했는지 확인
-            Optional<InterestAnswer> interestAnswer = interestAnswerRepository.findByUserIdAndInterest(familyMember.getUserId(), interest);
-
-            String content = "";
+    }
 
-            // 답변 했으면 content 채워주기
-            if (interestAnswer.isPresent()) { // 존재하면
-                content = interestAnswer.get().getContent();
-            }
+    // 가족 구성원 순서대로 답변 정보 생성 (답변 안했으면 content는 빈 문자열)
+    private List<InterestAnswerResponse> toInterestAnswerResponses(List<UserInfoResponse> familyMembers, List<InterestAnswer> interestAnswers) {
+        Map<Long, String> contentByUserId = new HashMap<>();
+        for (InterestAnswer interestAnswer : interestAnswers) {
+            contentByUserId.put(interestAnswer.getUserId(), interestAnswer.getContent());
+        }
 
-            // 가족 구성원 답변 정보 반환
+        List<InterestAnswerResponse> interestAnswerResponses = new ArrayList<>();
+        for (UserInfoResponse familyMember : familyMembers) {
             InterestAnswerResponse interestAnswerResponse = InterestAnswerResponse.builder()
                     .userId(familyMember.getUserId())
                     .userNickname(familyMember.getUserNickname())
                     .userZodiacSign(familyMember.getUserZodiacSign())
-                    .content(content)
+                    .content(contentByUserId.getOrDefault(familyMember.getUserId(), ""))
                     .build();
 
             interestAnswerResponses.add(interestAnswerResponse);
         }
 
         return interestAnswerResponses;
-
     }
 
     // 관심사 선정
@@ -267,14 +266,9 @@ public class InterestService {
             // 1. 가족 구성원 찾기
             List<UserInfoResponse> familyMembers = familyServiceFeignClient.getFamilyMemberListByFamilyId(familyId).getData();
 
-            List<Long> familyMemberIds = new ArrayList<>();
-            for (UserInfoResponse familyMember : familyMembers) {
-                // 사용자 조회 - 수신자
-                UserInfoResponse receiver = userServiceFeignClient.getUser(familyMember.getUserId()).getData();
-                log.info("[fcmToUser] receiver userId={}", receiver.getUserId());
-
-                familyMemberIds.add(familyMember.getUserId());
-            }
+            // 2. 수신자 - 가족 구성원 조회 결과에 이미 사용자 정보가 포함되어 있으므로 추가 조회 없음
+            List<Long> familyMemberIds = familyMembers.stream().map(UserInfoResponse::getUserId).toList();
+            log.info("[fcmToUser] receiver userIds={}", familyMemberIds);
 
             // 알림 메시지 생성
             String message = "선정된 관심사가 궁금하신가요? 관심사 공유에서 확인해보세요 !";
@@ -325,7 +319,7 @@ public class InterestService {
             selectedAnswerUserId = selectedAnswer.get().getUserId();
 
             // 선택된 답변의 사용자 정보 조회
-            selectedUser = userServiceFeignClient.getUser(selectedAnswerUserId).getData();
+            selectedUser = userInfoCache.getUser(selectedAnswerUserId);
         } else {
             throw new InterestAnswerNotFoundException();
         }
@@ -448,7 +442,7 @@ public class InterestService {
                 List<Long> familyMemberIds = new ArrayList<>();
                 for (UserInfoResponse familyMember : familyMembers) {
                     // 사용자 조회 - 수신자
-                    UserInfoResponse receiver = userServiceFeignClient.getUser(familyMember.getUserId()).getData();
+                    UserInfoResponse receiver = userInfoCache.getUser(familyMember.getUserId());
                     log.info("[fcmToUser] receiver userId={}", receiver.getUserId());
 
                     familyMemberIds.add(familyMember.getUserId());
@@ -541,7 +535,7 @@ public class InterestService {
             Optional<InterestAnswer> interestAnswer = interestAnswerRepository.findSelectedAnswersByFamilyIdAndInterest(familyId, interest);
 
             if (interestAnswer.isPresent()) {
-                UserInfoResponse userInfo = userServiceFeignClient.getUser(interestAnswer.get().getUserId()).getData();
+                UserInfoResponse userInfo = userInfoCache.getUser(interestAnswer.get().getUserId());
                 String userNickname = userInfo.getUserNickname();
 
                 InterestItem interestItem = InterestItem
@@ -585,7 +579,7 @@ public class InterestService {
             for (InterestMission interestMission : interestMissionList) {
                 String photoUrl = interestMission.getPhotoUrl();
 
-                UserInfoResponse userInfo = userServiceFeignClient.getUser(interestMission.getUserId()).getData();
+                UserInfoResponse userInfo = userInfoCache.getUser(interestMission.getUserId());
 
                 InterestDetailResponse interestDetailResponse = InterestDetailResponse
                         .builder()
@@ -0,0 +1,17 @@
+package com.familring.notificationservice.model.dto.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UnReadCountBatchRequest {
+    private List<Long> userIds;
+    private int amount;
+}
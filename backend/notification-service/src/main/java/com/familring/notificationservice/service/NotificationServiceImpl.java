@@ -8,9 +8,11 @@ import com.familring.notificationservice.model.dto.Notification;
 import com.familring.notificationservice.model.dto.NotificationType;
 import com.familring.notificationservice.model.dto.request.MentionRequest;
 import com.familring.notificationservice.model.dto.request.NotificationRequest;
+import com.familring.notificationservice.model.dto.request.UnReadCountBatchRequest;
 import com.familring.notificationservice.model.dto.request.UnReadCountRequest;
 import com.familring.notificationservice.model.dto.response.NotificationResponse;
 import com.familring.notificationservice.model.dto.response.UserInfoResponse;
+import com.familring.notificationservice.service.client.UserInfoCache;
 import com.familring.notificationservice.service.client.UserServiceFeignClient;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
@@ -30,12 +32,13 @@ public class NotificationServiceImpl implements NotificationService {
 
     private final NotificationDao notificationDao;
     private final UserServiceFeignClient userServiceFeignClient;
+    private final UserInfoCache userInfoCache;
     private final FcmUtil fcmUtil;
 
     @Override
     public List<NotificationResponse> getUnReadNotification(Long userId) {
         // 1. 회원 정보 찾기
-        UserInfoResponse user = userServiceFeignClient.getUser(userId).getData();
+        UserInfoResponse user = userInfoCache.getUser(userId);
         log.info("[getAllNotification] 찾은 사용자 정보 userNickname={}", user.getUserNickname());
 
         // 2. 회원의 알림 찾기
@@ -62,11 +65,11 @@ public class NotificationServiceImpl implements NotificationService {
     @Override
     public void notificationToFamily(Long userId, MentionRequest mentionRequest) {
         log.info("[notificationToFamily] 알림 수신자={}, 알림 발신자={}", mentionRequest.getReceiverId(), userId);
-        UserInfoResponse receiver = userServiceFeignClient.getUser(userId).getData();
+        UserInfoResponse receiver = userInfoCache.getUser(userId);
         String title = receiver.getUserNickname() + "님이 보내는 사랑의 한마디 💌";
 
         // 수신자에게 알림 전송
-        UserInfoResponse usersList = userServiceFeignClient.getUser(mentionRequest.getReceiverId()).getData();
+        UserInfoResponse usersList = userInfoCache.getUser(mentionRequest.getReceiverId());
         FcmMessage.FcmDto fcmDto = fcmUtil.makeFcmDTO(title, mentionRequest.getMention(), NotificationType.MENTION_CHAT.toString());
         fcmUtil.singleFcmSend(usersList, fcmDto);
         log.info("[notificationToFamily] 알림 전송 완료");
@@ -109,18 +112,18 @@ public class NotificationServiceImpl implements NotificationService {
                     .build();
 
             notificationDao.insertNotification(newNotification);
-
-            // 1-2. 알림 수신자 안읽음 알림 개수 증가
-            UnReadCountRequest unReadCountRequest = UnReadCountRequest.builder()
-                    .userId(userId)
-                    .amount(1)
-                    .build();
-            userServiceFeignClient.updateUserUnReadCount(unReadCountRequest);
-            log.info("[alarmByFcm] 알림 수신자 안읽음 알림 개수 증가 처리 완료");
         }
 
+        // 1-2. 알림 수신자 안읽음 알림 개수 증가 -> 수신자 전체를 요청 한 번으로
+        UnReadCountBatchRequest unReadCountBatchRequest = UnReadCountBatchRequest.builder()
+                .userIds(notificationRequest.getReceiverUserIds())
+                .amount(1)
+                .build();
+        userServiceFeignClient.updateUsersUnReadCount(unReadCountBatchRequest);
+        log.info("[alarmByFcm] 알림 수신자 안읽음 알림 개수 증가 처리 완료");
+
         // 2. 수신자들에게 알림 전송
-        List<UserInfoResponse> usersList = userServiceFeignClient.getAllUser(notificationRequest.getReceiverUserIds()).getData();
+        List<UserInfoResponse> usersList = userInfoCache.getAllUser(notificationRequest.getReceiverUserIds());
         FcmMessage.FcmDto fcmDto = fcmUtil.makeFcmDTO(notificationRequest.getTitle(), notificationRequest.getMessage(), notificationRequest.getNotificationType().toString() );
         fcmUtil.multiFcmSend(usersList, fcmDto);
         log.info("[alarmByFcm] 알림 전송 완료");
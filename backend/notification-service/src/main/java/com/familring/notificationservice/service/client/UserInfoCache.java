@@ -0,0 +1,18 @@
+package com.familring.notificationservice.service.client;
+
+import com.familring.common_module.cache.UserInfoClientCache;
+import com.familring.common_module.cache.UserInfoNearCacheFactory;
+import com.familring.common_module.dto.UserFieldSet;
+import com.familring.notificationservice.model.dto.response.UserInfoResponse;
+import org.springframework.stereotype.Component;
+
+// user-service 회원 정보 캐시 (common-module UserInfoClientCache)
+// 닉네임, FCM 토큰만 쓰므로 push-target 필드 묶음으로 조회
+@Component
+public class UserInfoCache extends UserInfoClientCache<UserInfoResponse> {
+
+    public UserInfoCache(UserServiceFeignClient userServiceFeignClient, UserInfoNearCacheFactory userInfoNearCacheFactory) {
+        super(userInfoNearCacheFactory,
+                userIds -> userServiceFeignClient.getAllUser(userIds, UserFieldSet.PUSH_TARGET).getData(), UserInfoResponse::getUserId);
+    }
+}
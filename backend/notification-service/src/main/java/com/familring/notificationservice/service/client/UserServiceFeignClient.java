@@ -1,6 +1,8 @@
 package com.familring.notificationservice.service.client;
 
 import com.familring.common_module.dto.BaseResponse;
+import com.familring.common_module.dto.UserFieldSet;
+import com.familring.notificationservice.model.dto.request.UnReadCountBatchRequest;
 import com.familring.notificationservice.model.dto.request.UnReadCountRequest;
 import com.familring.notificationservice.model.dto.response.UserInfoResponse;
 import org.springframework.cloud.openfeign.FeignClient;
@@ -8,17 +10,21 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
 
 import java.util.List;
 
 @FeignClient(name = "user-service")
 public interface UserServiceFeignClient {
     @PostMapping("/client/users")
-    BaseResponse<List<UserInfoResponse>> getAllUser(@RequestBody List<Long> userIds);
+    BaseResponse<List<UserInfoResponse>> getAllUser(@RequestBody List<Long> userIds, @RequestParam("fields") UserFieldSet fields);
 
     @GetMapping("/client/users/{userId}")
     BaseResponse<UserInfoResponse> getUser(@PathVariable Long userId);
 
     @PostMapping("/client/users/unread-count")
     BaseResponse<Void> updateUserUnReadCount(@RequestBody UnReadCountRequest unReadCountRequest);
+
+    @PostMapping("/client/users/unread-count/batch")
+    BaseResponse<Void> updateUsersUnReadCount(@RequestBody UnReadCountBatchRequest unReadCountBatchRequest);
 }
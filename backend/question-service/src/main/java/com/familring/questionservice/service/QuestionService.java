@@ -17,7 +17,7 @@ import com.familring.questionservice.repository.QuestionFamilyRepository;
 import com.familring.questionservice.repository.QuestionRepository;
 import com.familring.questionservice.service.client.FamilyServiceFeignClient;
 import com.familring.questionservice.service.client.NotificationServiceFeignClient;
-import com.familring.questionservice.service.client.UserServiceFeignClient;
+import com.familring.questionservice.service.client.UserInfoCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
@@ -42,7 +42,7 @@ public class QuestionService {
     private final QuestionAnswerRepository questionAnswerRepository;
     private final QuestionFamilyRepository questionFamilyRepository;
     private final FamilyServiceFeignClient familyServiceFeignClient;
-    private final UserServiceFeignClient userServiceFeignClient;
+    private final UserInfoCache userInfoCache;
     private final NotificationServiceFeignClient notificationServiceFeignClient;
 
     // 가족의 질문을 초기화하고 첫 번째 질문을 설정
@@ -101,7 +101,7 @@ public class QuestionService {
             List<Long> familyMemberIds = new ArrayList<>();
             for (UserInfoResponse familyMember : familyMembers) {
                 // 사용자 조회 - 수신자
-                UserInfoResponse receiver = userServiceFeignClient.getUser(familyMember.getUserId()).getData();
+                UserInfoResponse receiver = userInfoCache.getUser(familyMember.getUserId());
                 log.info("[fcmToUser] receiver userId={}", receiver.getUserId());
 
                 familyMemberIds.add(familyMember.getUserId());
@@ -347,11 +347,11 @@ public class QuestionService {
     // 랜덤 질문 미응답자 알림 전송
     public void fcmToUser(Long userId, KnockRequest knockRequest) {
         // 사용자 조회 - 발신자
-        UserInfoResponse sender = userServiceFeignClient.getUser(userId).getData();
+        UserInfoResponse sender = userInfoCache.getUser(userId);
         log.info("[fcmToUser] sender userId={}", sender.getUserId());
 
         // 사용자 조회 - 수신자
-        UserInfoResponse receiver = userServiceFeignClient.getUser(knockRequest.getReceiverId()).getData();
+        UserInfoResponse receiver = userInfoCache.getUser(knockRequest.getReceiverId());
         log.info("[fcmToUser] receiver userId={}", receiver.getUserId());
 
         // 알림 메시지 생성
@@ -16,7 +16,7 @@ import com.familring.timecapsuleservice.exception.client.FamilyNotFoundException
 import com.familring.timecapsuleservice.repository.TimeCapsuleAnswerRepository;
 import com.familring.timecapsuleservice.repository.TimeCapsuleRepository;
 import com.familring.timecapsuleservice.service.client.FamilyServiceFeignClient;
-import com.familring.timecapsuleservice.service.client.UserServiceFeignClient;
+import com.familring.timecapsuleservice.service.client.UserInfoCache;
 import com.familring.timecapsuleservice.service.job.TimeCapsuleNotificationJob;
 import lombok.RequiredArgsConstructor;
 
@@ -46,7 +46,7 @@ public class TimeCapsuleService {
     private final TimeCapsuleRepository timeCapsuleRepository;
     private final TimeCapsuleAnswerRepository timeCapsuleAnswerRepository;
     private final FamilyServiceFeignClient familyServiceFeignClient;
-    private final UserServiceFeignClient userServiceFeignClient;
+    private final UserInfoCache userInfoCache;
     private final Scheduler notificationScheduler;
 
     // 상태 관리 (3가지 상태로 구분)
@@ -109,7 +109,7 @@ public class TimeCapsuleService {
                         answer.ifPresent(capsuleAnswer -> userIds.add(capsuleAnswer.getUserId()));
                     }
                     // 그 찾은 user id 들로 userResponse 조회
-                    List<UserInfoResponse> users = userServiceFeignClient.getAllUser(userIds).getData();
+                    List<UserInfoResponse> users = userInfoCache.getAllUser(userIds);
 
                     response = TimeCapsuleStatusResponse.builder()
                             .status(2)
@@ -263,7 +263,7 @@ public class TimeCapsuleService {
                             .map(answer -> {
                                 // userId로 사용자 정보 가져오기
                                 Long id = timeCapsuleAnswerRepository.findUserIdByIdAndTimecapsule(answer.getId(), timeCapsule);
-                                UserInfoResponse user = userServiceFeignClient.getAllUser(Collections.singletonList(id)).getData().get(0);
+                                UserInfoResponse user = userInfoCache.getUser(id);
 
                                 return TimeCapsuleAnswerItem.builder()
                                         .userNickname(user.getUserNickname())
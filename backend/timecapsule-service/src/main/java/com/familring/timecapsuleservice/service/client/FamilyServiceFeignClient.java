@@ -1,9 +1,11 @@
 package com.familring.timecapsuleservice.service.client;
 
+import com.familring.common_module.cache.ClientCacheNames;
 import com.familring.common_module.dto.BaseResponse;
 import com.familring.timecapsuleservice.dto.client.Family;
 import com.familring.timecapsuleservice.dto.client.FamilyStatusRequest;
 import com.familring.timecapsuleservice.dto.client.UserInfoResponse;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PutMapping;
@@ -14,9 +16,11 @@ import java.util.List;
 
 @FeignClient(name = "family-service")
 public interface FamilyServiceFeignClient {
+    @Cacheable(cacheNames = ClientCacheNames.FAMILY_INFO, cacheManager = ClientCacheNames.CACHE_MANAGER)
     @GetMapping("/client/family")
     BaseResponse<Family> getFamilyInfo(@RequestParam Long userId);
 
+    @Cacheable(cacheNames = ClientCacheNames.FAMILY_MEMBERS, cacheManager = ClientCacheNames.CACHE_MANAGER)
     @GetMapping("/client/family/member")
     BaseResponse<List<UserInfoResponse>> getFamilyMemberList(@RequestParam Long userId);
 
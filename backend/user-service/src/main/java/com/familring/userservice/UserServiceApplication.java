@@ -1,8 +1,10 @@
 package com.familring.userservice;
 
+import com.familring.common_module.cache.event.UserInfoChangedEvent;
 import org.mybatis.spring.annotation.MapperScan;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.cloud.bus.jackson.RemoteApplicationEventScan;
 import org.springframework.cloud.client.discovery.EnableDiscoveryClient;
 import org.springframework.cloud.openfeign.EnableFeignClients;
 
@@ -10,6 +12,7 @@ import org.springframework.cloud.openfeign.EnableFeignClients;
 @EnableDiscoveryClient
 @EnableFeignClients
 @MapperScan("com.familring.userservice.model.dao")
+@RemoteApplicationEventScan(basePackageClasses = UserInfoChangedEvent.class)
 public class UserServiceApplication {
 
     public static void main(String[] args) {
@@ -1,8 +1,10 @@
 package com.familring.userservice.controller.client;
 
 import com.familring.common_module.dto.BaseResponse;
+import com.familring.common_module.dto.UserFieldSet;
+import com.familring.userservice.model.dto.request.UnReadCountBatchRequest;
 import com.familring.userservice.model.dto.request.UnReadCountRequest;
-import com.familring.userservice.model.dto.response.UserInfoResponse;
+import com.familring.userservice.model.dto.response.UserInfoView;
 import com.familring.userservice.service.UserService;
 import io.swagger.v3.oas.annotations.Hidden;
 import lombok.RequiredArgsConstructor;
@@ -22,18 +24,21 @@ public class UserClientController {
 
     private final UserService userService;
 
+    // fields : profile-lite, push-target, full (기본값) - UserFieldSet
     @PostMapping
-    public ResponseEntity<BaseResponse<List<UserInfoResponse>>> getAllUser(@RequestBody List<Long> userIds) {
-        log.info("userIds: {}", userIds);
-        List<UserInfoResponse> response = userService.getAllUser(userIds);
+    public ResponseEntity<BaseResponse<List<UserInfoView>>> getAllUser(@RequestBody List<Long> userIds,
+                                                                       @RequestParam(required = false) String fields) {
+        log.info("userIds: {}, fields: {}", userIds, fields);
+        List<UserInfoView> response = userService.getAllUser(userIds, UserFieldSet.from(fields));
 
         return ResponseEntity.ok(BaseResponse.create(HttpStatus.OK.value(), "회원 정보를 모두 성공적으로 조회 했습니다.", response));
     }
 
     @GetMapping("/{userId}")
-    public ResponseEntity<BaseResponse<UserInfoResponse>> getUser(@PathVariable Long userId) {
-        log.info("[getUser] userId: {}", userId);
-        UserInfoResponse response = userService.getUser(userId);
+    public ResponseEntity<BaseResponse<UserInfoView>> getUser(@PathVariable Long userId,
+                                                              @RequestParam(required = false) String fields) {
+        log.info("[getUser] userId: {}, fields: {}", userId, fields);
+        UserInfoView response = userService.getUser(userId, UserFieldSet.from(fields));
 
         return ResponseEntity.ok(BaseResponse.create(HttpStatus.OK.value(), "회원 정보를 성공적으로 조회 했습니다.", response));
     }
@@ -45,4 +50,13 @@ public class UserClientController {
 
         return ResponseEntity.ok(BaseResponse.create(HttpStatus.OK.value(), "회원의 안읽음 알림 개수를 성공적으로 변경했습니다."));
     }
+
+    // 여러 회원의 안읽음 알림 개수를 한 번에 변경 (알림 일괄 발송용)
+    @PostMapping("/unread-count/batch")
+    public ResponseEntity<BaseResponse<Void>> updateUsersUnReadCount(@RequestBody UnReadCountBatchRequest unReadCountBatchRequest) {
+        log.info("[updateUsersUnReadCount] userIds: {}", unReadCountBatchRequest.getUserIds());
+        userService.updateUsersUnReadCount(unReadCountBatchRequest);
+
+        return ResponseEntity.ok(BaseResponse.create(HttpStatus.OK.value(), "회원들의 안읽음 알림 개수를 성공적으로 변경했습니다."));
+    }
 }
@@ -5,6 +5,8 @@ import com.familring.userservice.model.dto.request.UserDeleteRequest;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Mapper
@@ -15,6 +17,7 @@ public interface UserDao {
     // 회원 정보 조회
     Optional<UserDto> findUserByUserKakaoId(@Param("userKakaoId") String userKakaoId);
     Optional<UserDto> findUserByUserId(@Param("userId") Long userId);
+    List<UserDto> findUsersByUserIds(@Param("userIds") Collection<Long> userIds);
     boolean existsUserByUserKakaoId(@Param("userKakaoId") String userKakaoId);
 
     // FCM 토큰 저장
@@ -32,8 +35,8 @@ public interface UserDao {
     // 회원 얼굴 사진 변경
     void updateUserFaceByUserId(@Param("userId") Long userId,@Param("userNewFace") String newFace);
 
-    // 회원 안읽음 알림 수 변경
-    void updateUserUnReadCountByUserId(@Param("userId") Long userId, @Param("newUnReadCount") int newUnReadCount);
+    // 회원 안읽음 알림 수 변경 (여러 회원 한 번에, 변경된 회원 수 반환)
+    int addUserUnReadCountByUserIds(@Param("userIds") Collection<Long> userIds, @Param("amount") int amount);
     
     // 회원 탈퇴
     void deleteUser(UserDeleteRequest deleteRequest);
@@ -0,0 +1,15 @@
+package com.familring.userservice.model.dto.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UnReadCountBatchRequest {
+    private List<Long> userIds;
+    private int amount;
+}
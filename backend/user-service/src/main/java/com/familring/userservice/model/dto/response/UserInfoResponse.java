@@ -13,7 +13,7 @@ import java.util.Date;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
-public class UserInfoResponse {
+public class UserInfoResponse implements UserInfoView {
     private Long userId;
     private String userKakaoId;
     private String userNickname;
@@ -0,0 +1,6 @@
+package com.familring.userservice.model.dto.response;
+
+// /client/users 응답 DTO (요청한 UserFieldSet에 따라 UserInfoResponse, UserProfileLiteResponse, UserPushTargetResponse)
+public interface UserInfoView {
+    Long getUserId();
+}
@@ -0,0 +1,19 @@
+package com.familring.userservice.model.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// UserFieldSet.PROFILE_LITE - 닉네임, 띠, 색상, 얼굴만
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserProfileLiteResponse implements UserInfoView {
+    private Long userId;
+    private String userNickname;
+    private String userZodiacSign;
+    private String userColor;
+    private String userFace;
+}
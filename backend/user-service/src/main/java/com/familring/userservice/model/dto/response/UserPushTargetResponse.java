@@ -0,0 +1,17 @@
+package com.familring.userservice.model.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// UserFieldSet.PUSH_TARGET - 알림 전송에 필요한 닉네임, FCM 토큰만
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserPushTargetResponse implements UserInfoView {
+    private Long userId;
+    private String userNickname;
+    private String userFcmToken;
+}
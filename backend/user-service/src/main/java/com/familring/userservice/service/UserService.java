@@ -1,8 +1,10 @@
 package com.familring.userservice.service;
 
+import com.familring.common_module.dto.UserFieldSet;
 import com.familring.userservice.model.dto.request.*;
 import com.familring.userservice.model.dto.response.JwtTokenResponse;
 import com.familring.userservice.model.dto.response.UserInfoResponse;
+import com.familring.userservice.model.dto.response.UserInfoView;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.util.List;
@@ -13,6 +15,10 @@ public interface UserService {
     UserInfoResponse getUser(Long userId);
     List<UserInfoResponse> getAllUser(List<Long> userIds);
 
+    // 회원 정보 조회 - 요청한 필드 묶음만 (서비스 간 호출)
+    UserInfoView getUser(Long userId, UserFieldSet fields);
+    List<UserInfoView> getAllUser(List<Long> userIds, UserFieldSet fields);
+
     // 로그인
     JwtTokenResponse login(UserLoginRequest userLogInRequest);
 
@@ -48,6 +54,7 @@ public interface UserService {
 
     // 회원 안읽음 알림 개수 변경
     void updateUserUnReadCount(UnReadCountRequest unReadCountRequest);
+    void updateUsersUnReadCount(UnReadCountBatchRequest unReadCountBatchRequest);
 
     // 회원 탈퇴
     void deleteUser(Long userId);
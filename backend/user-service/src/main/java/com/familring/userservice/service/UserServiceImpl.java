@@ -1,5 +1,6 @@
 package com.familring.userservice.service;
 
+import com.familring.common_module.dto.UserFieldSet;
 import com.familring.userservice.config.jwt.JwtTokenProvider;
 import com.familring.userservice.config.redis.RedisService;
 import com.familring.userservice.exception.file.NoContentVoiceException;
@@ -10,6 +11,10 @@ import com.familring.userservice.model.dto.UserDto;
 import com.familring.userservice.model.dto.request.*;
 import com.familring.userservice.model.dto.response.JwtTokenResponse;
 import com.familring.userservice.model.dto.response.UserInfoResponse;
+import com.familring.userservice.model.dto.response.UserInfoView;
+import com.familring.userservice.model.dto.response.UserProfileLiteResponse;
+import com.familring.userservice.model.dto.response.UserPushTargetResponse;
+import com.familring.userservice.service.cache.UserCache;
 import com.familring.userservice.service.client.AlbumServiceFeignClient;
 import com.familring.userservice.service.client.FileServiceFeignClient;
 import com.familring.userservice.service.jwt.JwtTokenService;
@@ -23,7 +28,10 @@ import org.springframework.web.multipart.MultipartFile;
 import org.springframework.web.server.ResponseStatusException;
 
 import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
@@ -31,6 +39,7 @@ import java.util.List;
 public class UserServiceImpl implements UserService {
 
     private final UserDao userDao;
+    private final UserCache userCache;
     private final JwtTokenProvider jwtTokenProvider;
 
     private final JwtTokenService tokenService;
@@ -44,7 +53,7 @@ public class UserServiceImpl implements UserService {
     public UserInfoResponse getUser(String userName) {
         log.info("userName: {}", userName);
         // 1. 회원 정보 찾기
-        UserDto user = userDao.findUserByUserKakaoId(userName)
+        UserDto user = userCache.getByKakaoId(userName)
                 .orElseThrow(() -> {
                     UsernameNotFoundException usernameNotFoundException = new UsernameNotFoundException("UserKakaoId(" + userName + ")로 회원을 찾을 수 없습니다.");
                     return new ResponseStatusException(HttpStatus.NOT_FOUND, usernameNotFoundException.getMessage(), usernameNotFoundException);
@@ -71,14 +80,76 @@ public class UserServiceImpl implements UserService {
     @Override
     public UserInfoResponse getUser(Long userId) {
         // 1. 회원 정보 찾기
-        UserDto user = userDao.findUserByUserId(userId)
-                .orElseThrow(() -> {
-                    UsernameNotFoundException usernameNotFoundException = new UsernameNotFoundException("UserId(" + userId + ")로 회원을 찾을 수 없습니다.");
-                    return new ResponseStatusException(HttpStatus.NOT_FOUND, usernameNotFoundException.getMessage(), usernameNotFoundException);
-                });
+        UserDto user = userCache.getByUserId(userId)
+                .orElseThrow(() -> userNotFound(userId));
 
-        // 2. 응답 빌더 생성
-        UserInfoResponse response = UserInfoResponse.builder()
+        // 2. 응답
+        return toUserInfoResponse(user);
+    }
+
+    @Override
+    public List<UserInfoResponse> getAllUser(List<Long> userIds) {
+        return findAllUser(userIds).stream()
+                .map(this::toUserInfoResponse)
+                .toList();
+    }
+
+    @Override
+    public UserInfoView getUser(Long userId, UserFieldSet fields) {
+        UserDto user = userCache.getByUserId(userId)
+                .orElseThrow(() -> userNotFound(userId));
+
+        return toUserInfoView(user, fields);
+    }
+
+    @Override
+    public List<UserInfoView> getAllUser(List<Long> userIds, UserFieldSet fields) {
+        return findAllUser(userIds).stream()
+                .map(user -> toUserInfoView(user, fields))
+                .toList();
+    }
+
+    private List<UserDto> findAllUser(List<Long> userIds) {
+        // 1. 캐시에 없는 회원만 IN 쿼리 한 번으로 조회
+        if (userIds.isEmpty()) {
+            return new ArrayList<>();
+        }
+        Map<Long, UserDto> users = userCache.getAll(userIds);
+
+        // 2. 요청한 userId 순서대로 정렬 (없는 회원이 있으면 404)
+        List<UserDto> userList = new ArrayList<>(userIds.size());
+        for (Long userId : userIds) {
+            UserDto user = users.get(userId);
+            if (user == null) {
+                throw userNotFound(userId);
+            }
+            userList.add(user);
+        }
+
+        return userList;
+    }
+
+    // 요청한 필드 묶음만 담은 응답 (나머지 필드는 직렬화하지 않음)
+    private UserInfoView toUserInfoView(UserDto user, UserFieldSet fields) {
+        return switch (fields) {
+            case PROFILE_LITE -> UserProfileLiteResponse.builder()
+                    .userId(user.getUserId())
+                    .userNickname(user.getUserNickname())
+                    .userZodiacSign(user.getUserZodiacSign())
+                    .userColor(user.getUserColor())
+                    .userFace(user.getUserFace())
+                    .build();
+            case PUSH_TARGET -> UserPushTargetResponse.builder()
+                    .userId(user.getUserId())
+                    .userNickname(user.getUserNickname())
+                    .userFcmToken(user.getUserFcmToken())
+                    .build();
+            case FULL -> toUserInfoResponse(user);
+        };
+    }
+
+    private UserInfoResponse toUserInfoResponse(UserDto user) {
+        return UserInfoResponse.builder()
                 .userId(user.getUserId())
                 .userKakaoId(user.getUserKakaoId())
                 .userNickname(user.getUserNickname())
@@ -91,23 +162,11 @@ public class UserServiceImpl implements UserService {
                 .userFcmToken(user.getUserFcmToken())
                 .userUnReadCount(user.getUserUnReadCount())
                 .build();
-
-        // 3. 응답
-        return response;
     }
 
-    @Override
-    public List<UserInfoResponse> getAllUser(List<Long> userIds) {
-        // 1. 응답 생성
-        List<UserInfoResponse> responseList = new ArrayList<>();
-
-        // 2. 각 userId별 메소드 호출
-        for (Long userId : userIds) {
-            responseList.add(getUser(userId));
-        }
-
-        // 3. 응답
-        return responseList;
+    private ResponseStatusException userNotFound(Long userId) {
+        UsernameNotFoundException usernameNotFoundException = new UsernameNotFoundException("UserId(" + userId + ")로 회원을 찾을 수 없습니다.");
+        return new ResponseStatusException(HttpStatus.NOT_FOUND, usernameNotFoundException.getMessage(), usernameNotFoundException);
     }
 
     @Override
@@ -200,6 +259,7 @@ public class UserServiceImpl implements UserService {
 
         // 2. 찾은 사용자에게 FCM 토큰 저장
         userDao.updateUserFcmTokenByUserId(user.getUserId(), fcmToken);
+        userCache.evictProfile(user.getUserId());
     }
 
     @Override
@@ -229,6 +289,7 @@ public class UserServiceImpl implements UserService {
 
         // 2. 사용자의 기분 변경
         userDao.updateUserEmotionByUserId(user.getUserId(), userEmotionRequest.getUserEmotion());
+        userCache.evictProfile(user.getUserId());
     }
 
     @Override
@@ -243,6 +304,7 @@ public class UserServiceImpl implements UserService {
 
         // 2. 사용자의 닉네임 변경
         userDao.updateUserNicknameByUserId(user.getUserId(), userNickname);
+        userCache.evictProfile(user.getUserId());
 
         albumServiceFeignClient.updatePersonAlbumName(PersonAlbumUpdateRequest.builder().userId(userId).userNickname(userNickname).build());
     }
@@ -259,6 +321,7 @@ public class UserServiceImpl implements UserService {
 
         // 2. 사용자의 닉네임 변경
         userDao.updateUserColorByUserId(user.getUserId(), userColor);
+        userCache.evictProfile(user.getUserId());
     }
 
     @Override
@@ -280,26 +343,43 @@ public class UserServiceImpl implements UserService {
 
         // 4. DB 변경
         userDao.updateUserFaceByUserId(user.getUserId(), newFace);
+        userCache.evictProfile(user.getUserId());
 
     }
 
     @Override
     @Transactional
     public void updateUserUnReadCount(UnReadCountRequest unReadCountRequest) {
-        // 1. 사용자 정보 찾기
-        UserDto user = userDao.findUserByUserId(unReadCountRequest.getUserId())
-                .orElseThrow(() -> {
-                    UsernameNotFoundException usernameNotFoundException = new UsernameNotFoundException("UserId(" + unReadCountRequest.getUserId() + ")로 회원을 찾을 수 없습니다.");
-                    return new ResponseStatusException(HttpStatus.NOT_FOUND, usernameNotFoundException.getMessage(), usernameNotFoundException);
-                });
-        log.info("[updateUserUnReadCount] 찾은 회원 userId={}", user.getUserId());
-        log.info("[updateUserUnReadCount] 이전 안읽음 알림 개수: {}", user.getUserUnReadCount());
+        // 1. 알림 수 변경 (UPDATE 한 번으로 DB에서 더함)
+        Long userId = unReadCountRequest.getUserId();
+        int updated = userDao.addUserUnReadCountByUserIds(List.of(userId), unReadCountRequest.getAmount());
+        if (updated == 0) {
+            throw userNotFound(userId);
+        }
+
+        // 2. 캐시 무효화
+        userCache.evict(userId);
+        log.info("[updateUserUnReadCount] userId={}, 변경 개수={}", userId, unReadCountRequest.getAmount());
+    }
+
+    @Override
+    @Transactional
+    public void updateUsersUnReadCount(UnReadCountBatchRequest unReadCountBatchRequest) {
+        List<Long> userIds = unReadCountBatchRequest.getUserIds();
+        if (userIds == null || userIds.isEmpty()) {
+            return;
+        }
 
+        // 1. 알림 수 변경 (같은 회원이 여러 번 있어도 한 번만 변경)
+        Set<Long> distinctUserIds = new LinkedHashSet<>(userIds);
+        int updated = userDao.addUserUnReadCountByUserIds(distinctUserIds, unReadCountBatchRequest.getAmount());
+        if (updated < distinctUserIds.size()) {
+            log.warn("[updateUsersUnReadCount] 없는 회원 제외 요청={}명, 변경={}명", distinctUserIds.size(), updated);
+        }
 
-        // 2. 알림 수 변경
-        int newUnReadCount = Math.max(0, user.getUserUnReadCount() + unReadCountRequest.getAmount());
-        userDao.updateUserUnReadCountByUserId(unReadCountRequest.getUserId(), newUnReadCount);
-        log.info("[updateUserUnReadCount] 이후 안읽음 알림 개수: {}", newUnReadCount);
+        // 2. 캐시 무효화
+        userCache.evict(distinctUserIds);
+        log.info("[updateUsersUnReadCount] userIds={}, 변경 개수={}", distinctUserIds, unReadCountBatchRequest.getAmount());
     }
 
     @Override
@@ -317,6 +397,7 @@ public class UserServiceImpl implements UserService {
 
         // 3. 회원 탈퇴 작업 시행
         customUserDetailsService.deleteUser(user.getUserKakaoId());
+        userCache.evictProfile(userId);
     }
 
     @Override
@@ -0,0 +1,136 @@
+package com.familring.userservice.service.cache;
+
+import com.familring.common_module.cache.event.UserInfoChangedEvent;
+import com.familring.userservice.model.dao.UserDao;
+import com.familring.userservice.model.dto.UserDto;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.bus.BusProperties;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/*
+회원 프로필 캐시 - userId, kakaoId로 조회
+프로필(닉네임, 색, 기분, 얼굴 사진 등)을 바꾸는 메서드는 트랜잭션 커밋 후 evictProfile로 모든 서비스의 회원 정보 캐시를 무효화
+다른 서비스가 쓰지 않는 값(안읽음 알림 수)만 바꾼 경우는 evict로 user-service 인스턴스만 무효화
+조회 전용 캐시이므로 값을 읽고 다시 쓰는 변경은 캐시가 아닌 DB에서 읽어야 함 (안읽음 알림 수는 UPDATE 한 번으로 DB에서 더함)
+적중률, 제거 수는 actuator의 cache.gets / cache.evictions (cache=userProfile)
+ */
+@Component
+@Log4j2
+public class UserCache {
+
+    private static final String CACHE_NAME = "userProfile";
+
+    private final UserDao userDao;
+    private final ApplicationEventPublisher eventPublisher;
+    private final BusProperties busProperties;
+    private final String applicationName;
+
+    private final Cache<Long, UserDto> userByUserId;
+    private final Cache<String, Long> userIdByKakaoId;
+
+    public UserCache(UserDao userDao,
+                     ApplicationEventPublisher eventPublisher,
+                     BusProperties busProperties,
+                     MeterRegistry meterRegistry,
+                     @Value("${spring.application.name:user-service}") String applicationName,
+                     @Value("${user.cache.max-size:10000}") long maxSize,
+                     @Value("${user.cache.ttl:PT10M}") Duration ttl) {
+        this.userDao = userDao;
+        this.eventPublisher = eventPublisher;
+        this.busProperties = busProperties;
+        this.applicationName = applicationName;
+        this.userByUserId = Caffeine.newBuilder().maximumSize(maxSize).expireAfterWrite(ttl).recordStats().build();
+        this.userIdByKakaoId = Caffeine.newBuilder().maximumSize(maxSize).expireAfterWrite(ttl).build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, userByUserId, CACHE_NAME);
+    }
+
+    // userId에 해당하는 회원 조회 - 캐시에 없으면 DB 조회
+    public Optional<UserDto> getByUserId(Long userId) {
+        return Optional.ofNullable(userByUserId.get(userId, id -> userDao.findUserByUserId(id).orElse(null)));
+    }
+
+    // kakaoId에 해당하는 회원 조회 - 탈퇴 등으로 kakaoId가 바뀐 회원이면 DB에서 다시 조회
+    public Optional<UserDto> getByKakaoId(String userKakaoId) {
+        Long userId = userIdByKakaoId.getIfPresent(userKakaoId);
+        if (userId != null) {
+            Optional<UserDto> user = getByUserId(userId);
+            if (user.isPresent() && userKakaoId.equals(user.get().getUserKakaoId())) {
+                return user;
+            }
+            userIdByKakaoId.invalidate(userKakaoId);
+        }
+
+        Optional<UserDto> user = userDao.findUserByUserKakaoId(userKakaoId);
+        user.ifPresent(this::put);
+        return user;
+    }
+
+    // 여러 회원 조회 - 캐시에 없는 userId만 모아 IN 쿼리 한 번으로 조회 (없는 회원은 결과에서 빠짐)
+    public Map<Long, UserDto> getAll(Collection<Long> userIds) {
+        return userByUserId.getAll(new HashSet<>(userIds), this::loadAll);
+    }
+
+    // 트랜잭션 커밋 후 모든 user-service 인스턴스의 캐시 무효화
+    public void evict(Long userId) {
+        publishAfterCommit(List.of(userId), applicationName + ":**");
+    }
+
+    public void evict(Collection<Long> userIds) {
+        publishAfterCommit(List.copyOf(userIds), applicationName + ":**");
+    }
+
+    // 트랜잭션 커밋 후 모든 서비스의 회원 정보 캐시 무효화 (common-module UserInfoNearCache 포함)
+    public void evictProfile(Long userId) {
+        publishAfterCommit(List.of(userId), "**");
+    }
+
+    @EventListener
+    public void handleUserInfoChanged(UserInfoChangedEvent event) {
+        log.info("[handleUserInfoChanged] 회원 캐시 무효화 userIds={}", event.getUserIds());
+        // kakaoId 색인은 조회 시 userId의 kakaoId와 비교해서 정리
+        userByUserId.invalidateAll(event.getUserIds());
+    }
+
+    private void publishAfterCommit(List<Long> userIds, String destinationService) {
+        UserInfoChangedEvent event = new UserInfoChangedEvent(this, busProperties.getId(), destinationService, userIds);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    eventPublisher.publishEvent(event);
+                }
+            });
+        } else {
+            eventPublisher.publishEvent(event);
+        }
+    }
+
+    private void put(UserDto user) {
+        userByUserId.put(user.getUserId(), user);
+        userIdByKakaoId.put(user.getUserKakaoId(), user.getUserId());
+    }
+
+    private Map<Long, UserDto> loadAll(Set<? extends Long> userIds) {
+        List<UserDto> users = userDao.findUsersByUserIds(new ArrayList<>(userIds));
+        users.forEach(user -> userIdByKakaoId.put(user.getUserKakaoId(), user.getUserId()));
+
+        return users.stream()
+                .collect(Collectors.toMap(UserDto::getUserId, Function.identity()));
+    }
+}
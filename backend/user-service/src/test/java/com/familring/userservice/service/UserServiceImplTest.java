@@ -0,0 +1,103 @@
+package com.familring.userservice.service;
+
+import com.familring.userservice.config.jwt.JwtTokenProvider;
+import com.familring.userservice.config.redis.RedisService;
+import com.familring.userservice.model.dao.UserDao;
+import com.familring.userservice.model.dto.request.UnReadCountBatchRequest;
+import com.familring.userservice.model.dto.request.UnReadCountRequest;
+import com.familring.userservice.service.cache.UserCache;
+import com.familring.userservice.service.client.AlbumServiceFeignClient;
+import com.familring.userservice.service.client.FileServiceFeignClient;
+import com.familring.userservice.service.jwt.JwtTokenService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.Collection;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+// 안읽음 알림 수 변경 (UPDATE ... GREATEST(0, user_un_read_count + amount) 한 번으로 변경)
+@ExtendWith(MockitoExtension.class)
+class UserServiceImplTest {
+
+    @Mock
+    private UserDao userDao;
+    @Mock
+    private UserCache userCache;
+    @Mock
+    private JwtTokenProvider jwtTokenProvider;
+    @Mock
+    private JwtTokenService tokenService;
+    @Mock
+    private CustomUserDetailsService customUserDetailsService;
+    @Mock
+    private AlbumServiceFeignClient albumServiceFeignClient;
+    @Mock
+    private RedisService redisService;
+    @Mock
+    private FileServiceFeignClient fileServiceFeignClient;
+
+    @InjectMocks
+    private UserServiceImpl userService;
+
+    @Test
+    @DisplayName("updateUserUnReadCount - 변경 후 회원 캐시 무효화")
+    void updateUserUnReadCount() {
+        when(userDao.addUserUnReadCountByUserIds(List.of(1L), -3)).thenReturn(1);
+
+        userService.updateUserUnReadCount(new UnReadCountRequest(1L, -3));
+
+        verify(userCache).evict(1L);
+    }
+
+    @Test
+    @DisplayName("updateUserUnReadCount - 변경된 회원이 없으면 404, 캐시는 그대로")
+    void updateUserUnReadCountNotFound() {
+        when(userDao.addUserUnReadCountByUserIds(List.of(1L), 1)).thenReturn(0);
+
+        assertThatThrownBy(() -> userService.updateUserUnReadCount(new UnReadCountRequest(1L, 1)))
+                .isInstanceOfSatisfying(ResponseStatusException.class,
+                        e -> assertThat(e.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND));
+        verifyNoInteractions(userCache);
+    }
+
+    @Test
+    @DisplayName("updateUsersUnReadCount - 중복 회원은 한 번만 변경하고 변경한 회원 캐시 무효화")
+    void updateUsersUnReadCountDeduplicates() {
+        when(userDao.addUserUnReadCountByUserIds(anyCollection(), eq(1))).thenReturn(3);
+
+        userService.updateUsersUnReadCount(new UnReadCountBatchRequest(List.of(3L, 1L, 3L, 2L, 1L), 1));
+
+        verify(userDao).addUserUnReadCountByUserIds(argThat(userIds -> List.copyOf(userIds).equals(List.of(3L, 1L, 2L))), eq(1));
+        verify(userCache).evict(argThat((Collection<Long> userIds) -> List.copyOf(userIds).equals(List.of(3L, 1L, 2L))));
+    }
+
+    @Test
+    @DisplayName("updateUsersUnReadCount - 없는 회원이 섞여 있어도 예외 없이 나머지만 변경")
+    void updateUsersUnReadCountSkipsMissingUsers() {
+        when(userDao.addUserUnReadCountByUserIds(anyCollection(), eq(1))).thenReturn(1);
+
+        userService.updateUsersUnReadCount(new UnReadCountBatchRequest(List.of(1L, 99L), 1));
+
+        verify(userCache).evict(anyCollection());
+    }
+
+    @Test
+    @DisplayName("updateUsersUnReadCount - 회원 목록이 비어 있으면 변경하지 않음")
+    void updateUsersUnReadCountWithoutUsers() {
+        userService.updateUsersUnReadCount(new UnReadCountBatchRequest(List.of(), 1));
+        userService.updateUsersUnReadCount(new UnReadCountBatchRequest(null, 1));
+
+        verifyNoInteractions(userDao, userCache);
+    }
+}